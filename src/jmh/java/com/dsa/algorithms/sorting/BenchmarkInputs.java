@@ -0,0 +1,49 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Random;
+
+// Input shapes and algorithm lookup shared by the sorting benchmarks
+public final class BenchmarkInputs {
+    private BenchmarkInputs() {
+    }
+
+    public enum Distribution {
+        RANDOM, SORTED, REVERSED, SAWTOOTH, FEW_UNIQUE, ORGAN_PIPE;
+
+        // Fixed seed so every run and every release benchmarks the same arrays
+        int[] generate(int n) {
+            Random rand = new Random(42);
+            int[] arr = new int[n];
+            int tooth = Math.max(1, (int) Math.sqrt(n));
+            for (int i = 0; i < n; i++) {
+                switch (this) {
+                    case RANDOM -> arr[i] = rand.nextInt();
+                    case SORTED -> arr[i] = i;
+                    case REVERSED -> arr[i] = n - i;
+                    case SAWTOOTH -> arr[i] = i % tooth;
+                    case FEW_UNIQUE -> arr[i] = rand.nextInt(8);
+                    case ORGAN_PIPE -> arr[i] = i < n / 2 ? i : n - i;
+                }
+            }
+            return arr;
+        }
+    }
+
+    // Names used in the @Param lists; a suffix selects a mode
+    static Sortable create(String name) {
+        return switch (name) {
+            case "BubbleSort" -> new BubbleSort();
+            case "InsertionSort" -> new InsertionSort();
+            case "SelectionSort" -> new SelectionSort();
+            case "QuickSort" -> new QuickSort();
+            case "QuickSort-INTROSORT" -> new QuickSort(QuickSort.Mode.INTROSORT);
+            case "MergeSort" -> new MergeSort();
+            case "MergeSort-ADAPTIVE" -> new MergeSort(MergeSort.Mode.ADAPTIVE);
+            case "MergeSort-PARALLEL" -> new MergeSort(MergeSort.DEFAULT_PARALLEL_THRESHOLD);
+            case "LSDRadixSort" -> new LSDRadixSort();
+            case "MSDRadixSort" -> new MSDRadixSort();
+            case "CountingSort" -> new CountingSort();
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + name);
+        };
+    }
+}
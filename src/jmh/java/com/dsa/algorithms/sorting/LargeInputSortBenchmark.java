@@ -0,0 +1,44 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// O(n log n) and linear-time strategies from 10 up to 10^7 elements
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class LargeInputSortBenchmark {
+
+    @Param({"QuickSort-INTROSORT", "MergeSort", "MergeSort-ADAPTIVE", "MergeSort-PARALLEL",
+            "LSDRadixSort", "MSDRadixSort", "CountingSort"})
+    public String algorithm;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public BenchmarkInputs.Distribution distribution;
+
+    private Sortable sorter;
+    private int[] input;
+
+    @Setup
+    public void setup() {
+        sorter = BenchmarkInputs.create(algorithm);
+        input = distribution.generate(size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        return sorter.sort(input.clone());
+    }
+
+    // Cost of the per-invocation input copy, to subtract from the sort timings
+    @Benchmark
+    public int[] copyOnly() {
+        return input.clone();
+    }
+}
@@ -0,0 +1,39 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Algorithms that are quadratic on some inputs: classic QuickSort's last-element pivot
+// degrades (and recurses n deep) on sorted data, so all of these stop at 10^4.
+// The input copy is part of each measurement; see LargeInputSortBenchmark.copyOnly.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss16m")
+@State(Scope.Benchmark)
+public class SmallInputSortBenchmark {
+
+    @Param({"BubbleSort", "InsertionSort", "SelectionSort", "QuickSort"})
+    public String algorithm;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public BenchmarkInputs.Distribution distribution;
+
+    private Sortable sorter;
+    private int[] input;
+
+    @Setup
+    public void setup() {
+        sorter = BenchmarkInputs.create(algorithm);
+        input = distribution.generate(size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        return sorter.sort(input.clone());
+    }
+}
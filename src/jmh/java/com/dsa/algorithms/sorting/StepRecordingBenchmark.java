@@ -0,0 +1,52 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Cost of sortWithSteps (recording the trace, then rebuilding every step as a visualizer
+// would) against a plain sort of the same input, for the five visualized algorithms
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss16m")
+@State(Scope.Benchmark)
+public class StepRecordingBenchmark {
+
+    @Param({"BubbleSort", "InsertionSort", "SelectionSort", "QuickSort", "MergeSort"})
+    public String algorithm;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public BenchmarkInputs.Distribution distribution;
+
+    private Sortable sorter;
+    private int[] input;
+
+    @Setup
+    public void setup() {
+        sorter = BenchmarkInputs.create(algorithm);
+        input = distribution.generate(size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        return sorter.sort(input.clone());
+    }
+
+    @Benchmark
+    public void sortWithSteps(Blackhole bh) {
+        List<int[]> steps = sorter.sortWithSteps(input.clone());
+        for (int[] step : steps) bh.consume(step);
+    }
+
+    // Recording only: the trace is built but no step is materialized
+    @Benchmark
+    public SortTrace sortWithTrace() {
+        return sorter.sortWithTrace(input.clone());
+    }
+}
@@ -0,0 +1,210 @@
+package com.dsa.algorithms.graph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// Immutable directed graph in compressed sparse row form. Vertices are 0..V-1; the out-edges
+// of v are the edge indices [firstEdge(v), endEdge(v)), in the order they were added, and
+// edge e leads to target(e) with weight(e). Storage is one int per vertex plus one int per
+// edge (two with weights), so 10M weighted edges take about 80 MB plus 4 bytes per vertex.
+//
+// Undirected graphs store each edge in both directions (Builder.addUndirectedEdge, or the
+// symmetric adjacency matrices the greedy algorithms use). Unweighted graphs report weight 1.
+public final class CSRGraph {
+    private final int vertexCount;
+    private final int[] offsets;    // out-edges of v are [offsets[v], offsets[v + 1])
+    private final int[] targets;
+    private final int[] weights;    // null when unweighted
+
+    private CSRGraph(int vertexCount, int[] offsets, int[] targets, int[] weights) {
+        this.vertexCount = vertexCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static Builder builder(int vertexCount) {
+        return new Builder(vertexCount);
+    }
+
+    // From the Map form BFS and DFS take. Keys and neighbours are vertex ids and must be
+    // non-negative; V is the largest id + 1, so ids missing from the map become isolated vertices.
+    public static CSRGraph fromAdjacencyMap(Map<Integer, List<Integer>> graph) {
+        if (graph == null) throw new IllegalArgumentException("graph must not be null");
+        int max = -1;
+        long edges = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : graph.entrySet()) {
+            max = Math.max(max, checkId(entry.getKey()));
+            if (entry.getValue() == null) continue;
+            for (Integer v : entry.getValue()) max = Math.max(max, checkId(v));
+            edges += entry.getValue().size();
+        }
+        Builder builder = new Builder(max + 1, edges);
+        for (Map.Entry<Integer, List<Integer>> entry : graph.entrySet()) {
+            if (entry.getValue() == null) continue;
+            for (int v : entry.getValue()) builder.addEdge(entry.getKey(), v);
+        }
+        return builder.build();
+    }
+
+    // From the List form TopologicalOrdering takes: graph.get(u) lists the targets of u
+    public static CSRGraph fromAdjacencyList(List<List<Integer>> graph) {
+        if (graph == null) throw new IllegalArgumentException("graph must not be null");
+        long edges = 0;
+        for (List<Integer> targets : graph) edges += targets == null ? 0 : targets.size();
+        Builder builder = new Builder(graph.size(), edges);
+        for (int u = 0; u < graph.size(); u++) {
+            if (graph.get(u) == null) continue;
+            for (int v : graph.get(u)) builder.addEdge(u, v);
+        }
+        return builder.build();
+    }
+
+    // From the weighted adjacency matrix Dijkstra, Prim and Kruskal take: every non-zero
+    // matrix[u][v] becomes an edge u -> v with that weight
+    public static CSRGraph fromAdjacencyMatrix(int[][] matrix) {
+        if (matrix == null) throw new IllegalArgumentException("matrix must not be null");
+        int n = matrix.length;
+        long edges = 0;
+        for (int[] row : matrix) {
+            if (row == null || row.length != n) throw new IllegalArgumentException("matrix must be square");
+            for (int w : row) if (w != 0) edges++;
+        }
+        Builder builder = new Builder(n, edges);
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                if (matrix[u][v] != 0) builder.addEdge(u, v, matrix[u][v]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static int checkId(Integer id) {
+        if (id == null || id < 0) throw new IllegalArgumentException("vertex ids must be non-negative, got " + id);
+        return id;
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public int firstEdge(int v) {
+        return offsets[v];
+    }
+
+    public int endEdge(int v) {
+        return offsets[v + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights == null ? 1 : weights[edge];
+    }
+
+    // Copy of v's targets in edge order
+    public int[] neighbors(int v) {
+        return Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]);
+    }
+
+    // Bytes held by the offset, target and weight arrays
+    public long memoryBytes() {
+        long ints = (long) offsets.length + targets.length + (weights == null ? 0 : weights.length);
+        return ints * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return "CSRGraph{vertices=" + vertexCount + ", edges=" + edgeCount() + ", weighted=" + isWeighted() + "}";
+    }
+
+    // Collects edges in any order, then lays them out by source with a counting sort that keeps
+    // each vertex's edges in insertion order. A graph is weighted if any edge was given a weight.
+    public static final class Builder {
+        private final int vertexCount;
+        private int[] sources;
+        private int[] targets;
+        private int[] weights;          // allocated on the first weighted edge
+        private int size;
+
+        private Builder(int vertexCount) {
+            this(vertexCount, 16);
+        }
+
+        private Builder(int vertexCount, long expectedEdges) {
+            if (vertexCount < 0) throw new IllegalArgumentException("vertexCount must not be negative");
+            if (expectedEdges > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("too many edges: " + expectedEdges);
+            this.vertexCount = vertexCount;
+            int capacity = (int) Math.max(16, expectedEdges);
+            this.sources = new int[capacity];
+            this.targets = new int[capacity];
+        }
+
+        public Builder addEdge(int u, int v) {
+            return add(u, v, 1, false);
+        }
+
+        public Builder addEdge(int u, int v, int weight) {
+            return add(u, v, weight, true);
+        }
+
+        public Builder addUndirectedEdge(int u, int v, int weight) {
+            add(u, v, weight, true);
+            return add(v, u, weight, true);
+        }
+
+        private Builder add(int u, int v, int weight, boolean weighted) {
+            if (u < 0 || u >= vertexCount || v < 0 || v >= vertexCount) {
+                throw new IllegalArgumentException("edge " + u + " -> " + v + " outside [0, " + vertexCount + ")");
+            }
+            if (size == sources.length) {
+                if (size == Integer.MAX_VALUE - 8) throw new IllegalArgumentException("too many edges");
+                int capacity = (int) Math.min((long) size * 2, Integer.MAX_VALUE - 8);
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                if (weights != null) weights = Arrays.copyOf(weights, capacity);
+            }
+            if (weighted && weights == null) {
+                // Earlier edges had the implicit weight 1
+                weights = new int[sources.length];
+                Arrays.fill(weights, 0, size, 1);
+            }
+            sources[size] = u;
+            targets[size] = v;
+            if (weights != null) weights[size] = weighted ? weight : 1;
+            size++;
+            return this;
+        }
+
+        public CSRGraph build() {
+            int[] offsets = new int[vertexCount + 1];
+            for (int i = 0; i < size; i++) offsets[sources[i] + 1]++;
+            for (int v = 0; v < vertexCount; v++) offsets[v + 1] += offsets[v];
+
+            int[] next = Arrays.copyOf(offsets, vertexCount);
+            int[] csrTargets = new int[size];
+            int[] csrWeights = weights == null ? null : new int[size];
+            for (int i = 0; i < size; i++) {
+                int slot = next[sources[i]]++;
+                csrTargets[slot] = targets[i];
+                if (csrWeights != null) csrWeights[slot] = weights[i];
+            }
+            return new CSRGraph(vertexCount, offsets, csrTargets, csrWeights);
+        }
+    }
+}
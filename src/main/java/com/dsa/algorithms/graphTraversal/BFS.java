@@ -1,35 +1,61 @@
 package com.dsa.algorithms.graphTraversal;
 
+import com.dsa.algorithms.graph.CSRGraph;
+
 import java.util.*;
 
 public class BFS implements GraphTraversable {
     private Map<Integer, List<Integer>> graph;
+    private CSRGraph csr;
+    private final boolean tracing;
+    private TraversalEngine engine;     // untraced CSR traversals, reused between calls
     private List<String> steps = new ArrayList<>();
 
     public BFS(Map<Integer, List<Integer>> graph) {
+        this(graph, true);
+    }
+
+    // tracing = false: no step strings are recorded, for graphs too large to narrate
+    public BFS(Map<Integer, List<Integer>> graph, boolean tracing) {
         this.graph = graph;
+        this.tracing = tracing;
+    }
+
+    // Same traversal and steps over a CSR graph, with array-based visited set and queue
+    public BFS(CSRGraph graph) {
+        this(graph, true);
+    }
+
+    public BFS(CSRGraph graph, boolean tracing) {
+        if (graph == null) throw new IllegalArgumentException("graph must not be null");
+        this.csr = graph;
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
     }
 
     @Override
     public List<Integer> traverse(int startNode) {
+        if (csr != null) return traverseCsr(startNode);
         List<Integer> result = new ArrayList<>();
-        Queue<Integer> queue = new LinkedList<>();
+        Queue<Integer> queue = new ArrayDeque<>();
         Set<Integer> visited = new HashSet<>();
 
         queue.offer(startNode);
         visited.add(startNode);
-        steps.add("Start from node " + startNode);
+        step("Start from node ", startNode);
 
         while (!queue.isEmpty()) {
             int current = queue.poll();
             result.add(current);
-            steps.add("Visited: " + current);
+            step("Visited: ", current);
 
-            for (int neighbor : graph.getOrDefault(current, new ArrayList<>())) {
-                if (!visited.contains(neighbor)) {
+            for (int neighbor : graph.getOrDefault(current, Collections.emptyList())) {
+                if (visited.add(neighbor)) {
                     queue.offer(neighbor);
-                    visited.add(neighbor);
-                    steps.add("Queue: " + neighbor);
+                    step("Queue: ", neighbor);
                 }
             }
         }
@@ -37,6 +63,49 @@ public class BFS implements GraphTraversable {
         return result;
     }
 
+    private List<Integer> traverseCsr(int startNode) {
+        List<Integer> result = new ArrayList<>();
+        step("Start from node ", startNode);
+        // Like a vertex missing from the map, an id outside the graph has no neighbours
+        if (startNode < 0 || startNode >= csr.vertexCount()) {
+            result.add(startNode);
+            step("Visited: ", startNode);
+            return result;
+        }
+        if (!tracing) {
+            if (engine == null) engine = new TraversalEngine();
+            int reached = engine.bfs(csr, startNode);
+            for (int i = 0; i < reached; i++) result.add(engine.vertexAt(i));
+            return result;
+        }
+
+        int[] queue = new int[csr.vertexCount()];   // each vertex is queued at most once
+        boolean[] visited = new boolean[csr.vertexCount()];
+        int head = 0, tail = 0;
+        queue[tail++] = startNode;
+        visited[startNode] = true;
+
+        while (head < tail) {
+            int current = queue[head++];
+            result.add(current);
+            steps.add("Visited: " + current);
+
+            for (int e = csr.firstEdge(current), end = csr.endEdge(current); e < end; e++) {
+                int neighbor = csr.target(e);
+                if (!visited[neighbor]) {
+                    queue[tail++] = neighbor;
+                    visited[neighbor] = true;
+                    steps.add("Queue: " + neighbor);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void step(String text, int node) {
+        if (tracing) steps.add(text + node);
+    }
+
     @Override
     public List<String> getTraversalSteps() {
         return steps;
@@ -1,34 +1,221 @@
 package com.dsa.algorithms.graphTraversal;
 
+import com.dsa.algorithms.graph.CSRGraph;
+
 import java.util.*;
 
+// Depth-first traversal with an explicit stack, so path-like graphs of millions of vertices do
+// not overflow the thread stack. Vertices are visited in the same order, and the same
+// "Visited" / "Going deeper to" steps are recorded, as the plain recursive formulation.
+//
+// traverse(start, visitor) and traverseAll(visitor) also report pre-order, post-order and every
+// edge classified against the search so far, which is what cycle detection (a BACK edge) and
+// SCC algorithms (post-order, then the transposed graph) are built on.
 public class DFS implements GraphTraversable {
+    // TREE: leads to an undiscovered vertex; BACK: to an ancestor still on the stack (or itself);
+    // FORWARD: to a finished descendant; CROSS: to a finished vertex in another branch or tree
+    public enum EdgeType { TREE, BACK, FORWARD, CROSS }
+
+    // Callbacks fired during the traversal; each defaults to doing nothing. For a tree edge,
+    // edge(u, v, TREE) comes before preOrder(v).
+    public interface Visitor {
+        default void preOrder(int vertex) {
+        }
+
+        default void postOrder(int vertex) {
+        }
+
+        default void edge(int from, int to, EdgeType type) {
+        }
+    }
+
     private Map<Integer, List<Integer>> graph;
+    private CSRGraph csr;
+    private final boolean tracing;
+    private TraversalEngine engine;     // untraced CSR traversals, reused between calls
     private List<String> steps = new ArrayList<>();
 
     public DFS(Map<Integer, List<Integer>> graph) {
+        this(graph, true);
+    }
+
+    // tracing = false: no step strings are recorded, for graphs too large to narrate
+    public DFS(Map<Integer, List<Integer>> graph, boolean tracing) {
         this.graph = graph;
+        this.tracing = tracing;
+    }
+
+    // Same traversal and steps over a CSR graph, with array-based visited set and stack
+    public DFS(CSRGraph graph) {
+        this(graph, true);
+    }
+
+    public DFS(CSRGraph graph, boolean tracing) {
+        if (graph == null) throw new IllegalArgumentException("graph must not be null");
+        this.csr = graph;
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
     }
 
     @Override
     public List<Integer> traverse(int startNode) {
         List<Integer> result = new ArrayList<>();
-        Set<Integer> visited = new HashSet<>();
-        dfsHelper(startNode, visited, result);
+        if (csr != null && !tracing && startNode >= 0 && startNode < csr.vertexCount()) {
+            if (engine == null) engine = new TraversalEngine();
+            int reached = engine.dfs(csr, startNode);
+            for (int i = 0; i < reached; i++) result.add(engine.vertexAt(i));
+            return result;
+        }
+        traverse(startNode, new Visitor() {
+            @Override
+            public void preOrder(int vertex) {
+                result.add(vertex);
+            }
+        });
         return result;
     }
 
-    private void dfsHelper(int node, Set<Integer> visited, List<Integer> result) {
-        visited.add(node);
-        result.add(node);
-        steps.add("Visited: " + node);
+    // Depth-first search from startNode, reporting to visitor
+    public void traverse(int startNode, Visitor visitor) {
+        if (visitor == null) throw new IllegalArgumentException("visitor must not be null");
+        if (csr == null) {
+            new MapSearch(visitor).run(startNode);
+        } else if (startNode < 0 || startNode >= csr.vertexCount()) {
+            // Like a vertex missing from the map, an id outside the graph has no neighbours
+            visitor.preOrder(startNode);
+            step("Visited: ", startNode);
+            visitor.postOrder(startNode);
+        } else {
+            new CsrSearch(visitor).run(startNode);
+        }
+    }
+
+    // Depth-first search from every vertex not reached by an earlier one: 0..V-1 for a CSR
+    // graph, the map's keys in iteration order otherwise. Edges into earlier trees are CROSS.
+    public void traverseAll(Visitor visitor) {
+        if (visitor == null) throw new IllegalArgumentException("visitor must not be null");
+        if (csr == null) {
+            MapSearch search = new MapSearch(visitor);
+            for (int root : graph.keySet()) {
+                if (!search.order.containsKey(root)) search.run(root);
+            }
+        } else {
+            CsrSearch search = new CsrSearch(visitor);
+            for (int root = 0; root < csr.vertexCount(); root++) {
+                if (search.order[root] == 0) search.run(root);
+            }
+        }
+    }
+
+    private void step(String text, int node) {
+        if (tracing) steps.add(text + node);
+    }
+
+    // The classification of an edge u -> v whose target was already discovered
+    private static EdgeType classify(boolean targetFinished, int fromOrder, int toOrder) {
+        if (!targetFinished) return EdgeType.BACK;
+        return toOrder > fromOrder ? EdgeType.FORWARD : EdgeType.CROSS;
+    }
+
+    // One search state over the map form; each stack frame holds a vertex and its neighbour iterator
+    private class MapSearch {
+        final Visitor visitor;
+        final Map<Integer, Integer> order = new HashMap<>();   // discovery number
+        final Set<Integer> finished = new HashSet<>();
+        final Deque<Integer> vertices = new ArrayDeque<>();
+        final Deque<Iterator<Integer>> cursors = new ArrayDeque<>();
+
+        MapSearch(Visitor visitor) {
+            this.visitor = visitor;
+        }
 
-        for (int neighbor : graph.getOrDefault(node, new ArrayList<>())) {
-            if (!visited.contains(neighbor)) {
-                steps.add("Going deeper to: " + neighbor);
-                dfsHelper(neighbor, visited, result);
+        void run(int root) {
+            enter(root);
+            while (!vertices.isEmpty()) {
+                int u = vertices.peek();
+                Iterator<Integer> cursor = cursors.peek();
+                if (!cursor.hasNext()) {
+                    vertices.pop();
+                    cursors.pop();
+                    finished.add(u);
+                    visitor.postOrder(u);
+                    continue;
+                }
+                int v = cursor.next();
+                Integer seen = order.get(v);
+                if (seen == null) {
+                    visitor.edge(u, v, EdgeType.TREE);
+                    step("Going deeper to: ", v);
+                    enter(v);
+                } else {
+                    visitor.edge(u, v, classify(finished.contains(v), order.get(u), seen));
+                }
             }
         }
+
+        private void enter(int node) {
+            order.put(node, order.size() + 1);
+            visitor.preOrder(node);
+            step("Visited: ", node);
+            List<Integer> neighbors = graph.get(node);
+            vertices.push(node);
+            cursors.push(neighbors == null ? Collections.emptyIterator() : neighbors.iterator());
+        }
+    }
+
+    // One search state over the CSR form; each stack frame holds a vertex and its next edge index
+    private class CsrSearch {
+        final Visitor visitor;
+        final int[] order;              // discovery number, 0 while undiscovered
+        final boolean[] finished;
+        final int[] vertices;           // the stack never holds a vertex twice
+        final int[] cursors;
+        int discovered;
+        int top = -1;
+
+        CsrSearch(Visitor visitor) {
+            int n = csr.vertexCount();
+            this.visitor = visitor;
+            this.order = new int[n];
+            this.finished = new boolean[n];
+            this.vertices = new int[n];
+            this.cursors = new int[n];
+        }
+
+        void run(int root) {
+            enter(root);
+            while (top >= 0) {
+                int u = vertices[top];
+                int e = cursors[top];
+                if (e == csr.endEdge(u)) {
+                    top--;
+                    finished[u] = true;
+                    visitor.postOrder(u);
+                    continue;
+                }
+                cursors[top] = e + 1;
+                int v = csr.target(e);
+                if (order[v] == 0) {
+                    visitor.edge(u, v, EdgeType.TREE);
+                    step("Going deeper to: ", v);
+                    enter(v);
+                } else {
+                    visitor.edge(u, v, classify(finished[v], order[u], order[v]));
+                }
+            }
+        }
+
+        private void enter(int node) {
+            order[node] = ++discovered;
+            visitor.preOrder(node);
+            step("Visited: ", node);
+            top++;
+            vertices[top] = node;
+            cursors[top] = csr.firstEdge(node);
+        }
     }
 
     @Override
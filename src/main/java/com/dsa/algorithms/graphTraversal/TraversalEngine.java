@@ -0,0 +1,123 @@
+package com.dsa.algorithms.graphTraversal;
+
+import com.dsa.algorithms.graph.CSRGraph;
+
+import java.util.Arrays;
+
+// BFS and DFS over CSR graphs on primitive arrays only: a long[] bitset marks visited vertices,
+// the visit order is written to an int[] that BFS also uses as its queue (every vertex enters
+// it once, so the head and tail never wrap), and DFS keeps its stack in two int[]s. All of it
+// is a workspace kept between calls and grown only for a larger graph, so repeated traversals
+// allocate nothing. Visit orders match BFS and DFS.
+//
+// After a traversal, visitedCount() vertices were reached and vertexAt(i) is the i-th of them.
+// Not thread-safe: use one engine per thread.
+public final class TraversalEngine {
+    private long[] visited = new long[0];
+    private int[] order = new int[0];       // visit order; the BFS queue is order[head, tail)
+    private int[] stack = new int[0];       // DFS vertices, never holding a vertex twice
+    private int[] cursors = new int[0];     // DFS next edge index per stack frame
+    private int count;
+
+    // Breadth-first from start; returns the number of vertices reached
+    public int bfs(CSRGraph graph, int start) {
+        prepare(graph, start);
+        long[] seen = visited;
+        int[] queue = order;
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        seen[start >>> 6] |= 1L << start;
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = graph.firstEdge(current), end = graph.endEdge(current); e < end; e++) {
+                int neighbor = graph.target(e);
+                long bit = 1L << neighbor;
+                if ((seen[neighbor >>> 6] & bit) == 0) {
+                    seen[neighbor >>> 6] |= bit;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        count = tail;
+        return count;
+    }
+
+    // Depth-first (pre-order) from start; returns the number of vertices reached
+    public int dfs(CSRGraph graph, int start) {
+        prepare(graph, start);
+        long[] seen = visited;
+        int reached = 0, top = 0;
+        order[reached++] = start;
+        seen[start >>> 6] |= 1L << start;
+        stack[0] = start;
+        cursors[0] = graph.firstEdge(start);
+
+        while (top >= 0) {
+            int e = cursors[top];
+            if (e == graph.endEdge(stack[top])) {
+                top--;
+                continue;
+            }
+            cursors[top] = e + 1;
+            int neighbor = graph.target(e);
+            long bit = 1L << neighbor;
+            if ((seen[neighbor >>> 6] & bit) == 0) {
+                seen[neighbor >>> 6] |= bit;
+                order[reached++] = neighbor;
+                top++;
+                stack[top] = neighbor;
+                cursors[top] = graph.firstEdge(neighbor);
+            }
+        }
+        count = reached;
+        return count;
+    }
+
+    // Vertices reached by the last traversal
+    public int visitedCount() {
+        return count;
+    }
+
+    // i-th vertex of the last traversal, in visit order
+    public int vertexAt(int i) {
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException("index " + i + " out of [0, " + count + ")");
+        return order[i];
+    }
+
+    public int[] copyOrder() {
+        return Arrays.copyOf(order, count);
+    }
+
+    // Whether the last traversal reached v
+    public boolean isVisited(int v) {
+        return v >= 0 && (v >>> 6) < visited.length && (visited[v >>> 6] & (1L << v)) != 0;
+    }
+
+    // Bytes held by the workspace arrays
+    public long workspaceBytes() {
+        return (long) visited.length * Long.BYTES + ((long) order.length + stack.length + cursors.length) * Integer.BYTES;
+    }
+
+    private void prepare(CSRGraph graph, int start) {
+        if (graph == null) throw new IllegalArgumentException("graph must not be null");
+        int n = graph.vertexCount();
+        if (start < 0 || start >= n) throw new IllegalArgumentException("start " + start + " outside [0, " + n + ")");
+
+        // Clear only the words the last traversal set when it reached few vertices
+        if (count < visited.length) {
+            for (int i = 0; i < count; i++) visited[order[i] >>> 6] = 0;
+        } else {
+            Arrays.fill(visited, 0);
+        }
+        count = 0;
+
+        int words = (n + 63) >>> 6;
+        if (visited.length < words) visited = new long[words];
+        if (order.length < n) {
+            order = new int[n];
+            stack = new int[n];
+            cursors = new int[n];
+        }
+    }
+}
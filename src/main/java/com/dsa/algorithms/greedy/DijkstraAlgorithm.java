@@ -1,5 +1,7 @@
 package com.dsa.algorithms.greedy;
 
+import com.dsa.algorithms.graph.CSRGraph;
+
 import java.util.*;
 
 /**
@@ -66,6 +68,86 @@ public class DijkstraAlgorithm {
         return distance;
     }
 
+    /**
+     * Performs Dijkstra's algorithm on a CSR graph with a binary heap, in O((V + E) log V).
+     * Distances match the matrix version; no steps are recorded, since each step snapshots
+     * O(V) state and this overload is meant for graphs far too large for that.
+     * @param graph graph with non-negative edge weights (unweighted edges count as 1)
+     * @param source source vertex
+     * @return array of shortest distances, Integer.MAX_VALUE for unreachable vertices
+     */
+    public int[] findShortestPaths(CSRGraph graph, int source) {
+        steps.clear();
+        int V = graph.vertexCount();
+        if (source < 0 || source >= V) throw new IllegalArgumentException("source " + source + " outside [0, " + V + ")");
+        int[] distance = new int[V];
+        boolean[] visited = new boolean[V];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        distance[source] = 0;
+
+        // Entries are (distance << 32 | vertex); stale entries are skipped when polled
+        MinHeap heap = new MinHeap(Math.max(16, V));
+        heap.add((long) 0 << 32 | source);
+        while (!heap.isEmpty()) {
+            long entry = heap.poll();
+            int u = (int) entry;
+            if (visited[u]) continue;
+            visited[u] = true;
+
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                int v = graph.target(e);
+                long candidate = (long) distance[u] + graph.weight(e);
+                if (!visited[v] && candidate < distance[v]) {
+                    distance[v] = (int) candidate;
+                    heap.add(candidate << 32 | v);
+                }
+            }
+        }
+        return distance;
+    }
+
+    /** Binary min-heap of longs, so the CSR overload does not box its entries */
+    static final class MinHeap {
+        private long[] heap;
+        private int size;
+
+        MinHeap(int capacity) {
+            heap = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long value) {
+            if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= value) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        }
+
+        long poll() {
+            long top = heap[0];
+            long last = heap[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (heap[child] >= last) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+
     /** Helper to find vertex with minimum distance not yet processed */
     private int minDistance(int[] distance, boolean[] visited) {
         int min = Integer.MAX_VALUE, minIndex = -1;
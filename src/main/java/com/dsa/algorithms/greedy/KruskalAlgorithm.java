@@ -1,5 +1,7 @@
 package com.dsa.algorithms.greedy;
 
+import com.dsa.algorithms.graph.CSRGraph;
+
 import java.util.*;
 
 /**
@@ -117,6 +119,44 @@ public class KruskalAlgorithm {
         return mst;
     }
 
+    /**
+     * Kruskal's algorithm on a CSR graph. Edges are sorted as packed (weight << 32 | edge index)
+     * longs, so equal weights keep CSR order and an undirected graph built from a matrix yields
+     * the same edges as findMST(int[][]). The reverse copy of an undirected edge is rejected
+     * like any other cycle. No steps are recorded, since each step snapshots O(V) state.
+     * @return List of MST edges in format [min(u, v), max(u, v), weight]
+     */
+    public List<int[]> findMST(CSRGraph graph) {
+        steps.clear();
+        int n = graph.vertexCount();
+        int m = graph.edgeCount();
+
+        int[] source = new int[m];
+        long[] order = new long[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                source[e] = u;
+                order[e] = (long) graph.weight(e) << 32 | e;
+            }
+        }
+        Arrays.sort(order);
+
+        UnionFind uf = new UnionFind(n);
+        List<int[]> mst = new ArrayList<>();
+        for (long packed : order) {
+            if (mst.size() == n - 1) break;
+            int e = (int) packed;
+            int u = source[e], v = graph.target(e);
+            int rootU = uf.find(u);
+            int rootV = uf.find(v);
+            if (rootU != rootV) {
+                uf.union(rootU, rootV);
+                mst.add(new int[]{Math.min(u, v), Math.max(u, v), graph.weight(e)});
+            }
+        }
+        return mst;
+    }
+
     /** Returns total cost of MST */
     public int getMSTCost(List<int[]> mstEdges) {
         return mstEdges.stream().mapToInt(e -> e[2]).sum();
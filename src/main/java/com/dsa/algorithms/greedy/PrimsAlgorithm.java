@@ -1,5 +1,7 @@
 package com.dsa.algorithms.greedy;
 
+import com.dsa.algorithms.graph.CSRGraph;
+
 import java.util.*;
 
 public class PrimsAlgorithm {
@@ -73,6 +75,45 @@ public class PrimsAlgorithm {
         return parent;
     }
 
+    /**
+     * Prim's algorithm on an undirected CSR graph (each edge stored both ways), starting from
+     * vertex 0, with a binary heap in O((V + E) log V). Ties are broken by the lower vertex id
+     * as in the matrix version, so both return the same parents. No steps are recorded, since
+     * each step snapshots O(V) state.
+     * @return parent of each vertex in the MST, -1 for vertex 0 and unreachable vertices
+     */
+    public int[] findMST(CSRGraph graph) {
+        steps.clear();
+        int n = graph.vertexCount();
+        int[] parent = new int[n];
+        int[] key = new int[n];
+        boolean[] inMST = new boolean[n];
+        Arrays.fill(key, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        if (n == 0) return parent;
+        key[0] = 0;
+
+        // Entries are (key << 32 | vertex); stale entries are skipped when polled
+        DijkstraAlgorithm.MinHeap heap = new DijkstraAlgorithm.MinHeap(Math.max(16, n));
+        heap.add(0L);
+        while (!heap.isEmpty()) {
+            int u = (int) heap.poll();
+            if (inMST[u]) continue;
+            inMST[u] = true;
+
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                int v = graph.target(e);
+                int w = graph.weight(e);
+                if (!inMST[v] && w < key[v]) {
+                    parent[v] = u;
+                    key[v] = w;
+                    heap.add((long) w << 32 | v);
+                }
+            }
+        }
+        return parent;
+    }
+
     /** Helper to find the vertex with minimum key not yet in MST */
     private int minKey(int[] key, boolean[] inMST) {
         int min = Integer.MAX_VALUE, minIndex = -1;
@@ -100,4 +141,19 @@ public class PrimsAlgorithm {
         }
         return cost;
     }
+
+    /** MST cost for parents returned by findMST(CSRGraph) */
+    public long getMSTCost(CSRGraph graph, int[] parent) {
+        long cost = 0;
+        for (int i = 1; i < graph.vertexCount(); i++) {
+            if (parent[i] == -1) continue;
+            // Lightest edge from the parent (the one findMST took), in case of parallel edges
+            int best = Integer.MAX_VALUE;
+            for (int e = graph.firstEdge(parent[i]), end = graph.endEdge(parent[i]); e < end; e++) {
+                if (graph.target(e) == i) best = Math.min(best, graph.weight(e));
+            }
+            cost += best;
+        }
+        return cost;
+    }
 }
\ No newline at end of file
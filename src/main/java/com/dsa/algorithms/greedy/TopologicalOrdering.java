@@ -1,5 +1,7 @@
 package com.dsa.algorithms.greedy;
 
+import com.dsa.algorithms.graph.CSRGraph;
+
 import java.util.*;
 
 /**
@@ -84,6 +86,44 @@ public class TopologicalOrdering {
         return order;
     }
 
+    /**
+     * Kahn's algorithm on a directed CSR graph with an int array as the queue. Visits vertices
+     * in the same order as the list version; no steps are recorded, since each step snapshots
+     * the queue and in-degrees.
+     *
+     * @return one valid topological ordering, or an empty list if the graph has a cycle
+     */
+    public List<Integer> findTopologicalOrder(CSRGraph graph) {
+        steps.clear();
+        int n = graph.vertexCount();
+
+        int[] inDegree = new int[n];
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            inDegree[graph.target(e)]++;
+        }
+
+        // Every vertex enters the queue once, so the order is read straight out of it
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0)
+                queue[tail++] = i;
+        }
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                int v = graph.target(e);
+                if (--inDegree[v] == 0)
+                    queue[tail++] = v;
+            }
+        }
+
+        if (tail != n) return Collections.emptyList();
+        List<Integer> order = new ArrayList<>(n);
+        for (int v : queue) order.add(v);
+        return order;
+    }
+
     /** Returns recorded steps for visualization */
     public List<Step> getSteps() {
         return steps;
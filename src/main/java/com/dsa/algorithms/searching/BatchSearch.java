@@ -0,0 +1,142 @@
+package com.dsa.algorithms.searching;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Looks up a whole batch of targets in one sorted array.
+// Strategies (AUTO picks one per call):
+//   SWEEP        - targets already ascending: one forward pass, galloping from the previous
+//                  answer, O(m log(n / m)) and every probe lands near the last one
+//   INTERLEAVED  - GROUP branchless lower-bound searches advanced level by level in lockstep,
+//                  so their cache misses overlap instead of running back to back
+//   PARALLEL     - fork/join over slices of the target batch, each slice using SWEEP or
+//                  INTERLEAVED as above
+// Result i is an index of targets[i] in the array (the first occurrence) or -1.
+public class BatchSearch {
+    public enum Strategy { AUTO, SWEEP, INTERLEAVED, PARALLEL }
+
+    // Searches advanced together by INTERLEAVED
+    static final int GROUP = 16;
+    // Default batch size above which AUTO goes parallel, and the slice size of each task
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public BatchSearch() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public BatchSearch(ForkJoinPool pool, int parallelThreshold) {
+        if (pool == null) throw new IllegalArgumentException("pool must not be null");
+        if (parallelThreshold < GROUP) {
+            throw new IllegalArgumentException("parallelThreshold must be at least " + GROUP);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int[] searchAll(int[] sortedArray, int[] targets) {
+        return searchAll(sortedArray, targets, Strategy.AUTO);
+    }
+
+    public int[] searchAll(int[] sortedArray, int[] targets, Strategy strategy) {
+        if (sortedArray == null || targets == null) throw new IllegalArgumentException("arrays must not be null");
+        if (strategy == null) throw new IllegalArgumentException("strategy must not be null");
+        int[] results = new int[targets.length];
+        if (targets.length == 0) return results;
+
+        if (strategy == Strategy.AUTO) {
+            strategy = targets.length > parallelThreshold && pool.getParallelism() > 1
+                    ? Strategy.PARALLEL
+                    : isAscending(targets, 0, targets.length) ? Strategy.SWEEP : Strategy.INTERLEAVED;
+        }
+        switch (strategy) {
+            case SWEEP -> {
+                if (!isAscending(targets, 0, targets.length)) {
+                    throw new IllegalArgumentException("SWEEP needs targets in ascending order");
+                }
+                sweep(sortedArray, targets, 0, targets.length, results);
+            }
+            case INTERLEAVED -> interleaved(sortedArray, targets, 0, targets.length, results);
+            default -> pool.invoke(new SliceTask(sortedArray, targets, 0, targets.length, results, parallelThreshold));
+        }
+        return results;
+    }
+
+    static boolean isAscending(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (arr[i - 1] > arr[i]) return false;
+        }
+        return true;
+    }
+
+    // Ascending targets: each lower bound starts from the previous one
+    static void sweep(int[] a, int[] targets, int from, int to, int[] results) {
+        int n = a.length;
+        int pos = 0;
+        for (int i = from; i < to; i++) {
+            int t = targets[i];
+            pos = RangeQuery.gallopLowerBound(a, pos, t);
+            results[i] = pos < n && a[pos] == t ? pos : -1;
+        }
+    }
+
+    // Lockstep branchless lower bounds. Every search over the same array takes the same
+    // number of halving steps, so a group shares one loop and only the bases differ.
+    static void interleaved(int[] a, int[] targets, int from, int to, int[] results) {
+        int n = a.length;
+        if (n == 0) {
+            for (int i = from; i < to; i++) results[i] = -1;
+            return;
+        }
+        int[] base = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int count = Math.min(GROUP, to - start);
+            for (int g = 0; g < count; g++) base[g] = 0;
+
+            int len = n;
+            while (len > 1) {
+                int half = len >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int b = base[g];
+                    base[g] = a[b + half - 1] < targets[start + g] ? b + half : b;
+                }
+                len -= half;
+            }
+            for (int g = 0; g < count; g++) {
+                int t = targets[start + g];
+                int lb = base[g] + (a[base[g]] < t ? 1 : 0);
+                results[start + g] = lb < n && a[lb] == t ? lb : -1;
+            }
+        }
+    }
+
+    private static final class SliceTask extends RecursiveAction {
+        private final int[] a, targets, results;
+        private final int from, to, threshold;
+
+        SliceTask(int[] a, int[] targets, int from, int to, int[] results, int threshold) {
+            this.a = a;
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                if (isAscending(targets, from, to))
+                    sweep(a, targets, from, to, results);
+                else
+                    interleaved(a, targets, from, to, results);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SliceTask(a, targets, from, mid, results, threshold),
+                      new SliceTask(a, targets, mid, to, results, threshold));
+        }
+    }
+}
@@ -1,19 +1,40 @@
 package com.dsa.algorithms.searching;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class BinarySearch implements Searchable {
-    private List<Integer> steps = new ArrayList<>();
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    public BinarySearch() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public BinarySearch(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
 
     @Override
     public int search(int[] array, int target) {
         steps.clear();
-        int low = 0, high = array.length - 1;
+        return search(array, target, tracing ? steps : null);
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        int index = searchRange(array, 0, array.length - 1, target, trace);
+        return index >= 0 ? index : -1;
+    }
 
+    // Binary search of array[low, high]. Returns the index of target, or -(insertion point + 1)
+    // like Arrays.binarySearch, so callers that keep a position can reuse where the search ended.
+    static int searchRange(int[] array, int low, int high, int target, StepBuffer trace) {
         while (low <= high) {
             int mid = low + (high - low) / 2;
-            steps.add(mid);
+            if (trace != null) trace.add(mid);
 
             if (array[mid] == target)
                 return mid;
@@ -22,11 +43,11 @@ public class BinarySearch implements Searchable {
             else
                 high = mid - 1;
         }
-        return -1;
+        return -(low + 1);
     }
 
     @Override
     public int[] getSearchSteps() {
-        return steps.stream().mapToInt(i -> i).toArray();
+        return steps.toArray();
     }
 }
@@ -0,0 +1,122 @@
+package com.dsa.algorithms.searching;
+
+// Blocked Bloom filter over int keys. Each key hashes to one 512-bit block (a single 64-byte
+// cache line) and sets its k bits inside it, so add and mightContain touch one line of memory
+// however many bits are checked. Confining the bits to a block costs accuracy, since some
+// blocks receive more keys than average; the size and k are therefore chosen from the
+// false-positive rate of the blocked layout itself (block loads are Poisson distributed),
+// which takes about 4% more bits than a classic Bloom filter at 1% and 15% more at 0.01%.
+//
+// mightContain never returns false for a key that was added; it returns true for a key that
+// was not added with roughly the configured false-positive rate.
+public class BlockedBloomFilter {
+    private static final int BLOCK_LONGS = 8;               // 512 bits
+    private static final int BLOCK_BITS = 512;
+    private static final int MAX_HASHES = 16;
+    private static final double MAX_BITS_PER_KEY = 64;
+
+    private final long[] bits;
+    private final int blocks;
+    private final int hashes;
+
+    public BlockedBloomFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 0) throw new IllegalArgumentException("expectedKeys must not be negative");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+        // Grow bits per key from the classic Bloom figure until the blocked layout meets the rate
+        double bitsPerKey = Math.max(2, -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int bestHashes = 1;
+        while (true) {
+            double best = 1;
+            for (int k = 1; k <= MAX_HASHES; k++) {
+                double rate = blockedFalsePositiveRate(bitsPerKey, k);
+                if (rate < best) {
+                    best = rate;
+                    bestHashes = k;
+                }
+            }
+            if (best <= falsePositiveRate || bitsPerKey >= MAX_BITS_PER_KEY) break;
+            bitsPerKey *= 1.02;
+        }
+        long totalBits = (long) Math.ceil(Math.max(1, expectedKeys) * bitsPerKey);
+        long blockCount = (totalBits + BLOCK_BITS - 1) / BLOCK_BITS;
+        if (blockCount > Integer.MAX_VALUE / BLOCK_LONGS) {
+            throw new IllegalArgumentException("filter for " + expectedKeys + " keys at this rate is too large");
+        }
+        this.blocks = (int) blockCount;
+        this.bits = new long[blocks * BLOCK_LONGS];
+        this.hashes = bestHashes;
+    }
+
+    // Expected false-positive rate with k bits per key in 512-bit blocks: the classic Bloom
+    // rate for a block holding i keys, weighted by the Poisson probability of that load
+    static double blockedFalsePositiveRate(double bitsPerKey, int k) {
+        double lambda = BLOCK_BITS / bitsPerKey;
+        double probability = Math.exp(-lambda);
+        double rate = 0;
+        int limit = (int) (lambda * 4) + 64;
+        for (int i = 1; i <= limit; i++) {
+            probability *= lambda / i;
+            rate += probability * Math.pow(1 - Math.pow(1 - 1.0 / BLOCK_BITS, (double) k * i), k);
+        }
+        return rate;
+    }
+
+    // Filter holding every value of keys
+    public static BlockedBloomFilter of(int[] keys, double falsePositiveRate) {
+        if (keys == null) throw new IllegalArgumentException("keys must not be null");
+        BlockedBloomFilter filter = new BlockedBloomFilter(keys.length, falsePositiveRate);
+        for (int key : keys) filter.add(key);
+        return filter;
+    }
+
+    public void add(int key) {
+        long h = mix(key);
+        int base = block(h);
+        // Bit positions inside the block: the low 32 hash bits are stepped by a golden-ratio
+        // multiply and each step's top 9 bits pick a bit, giving k well-spread positions
+        int g = (int) h;
+        for (int i = 0; i < hashes; i++) {
+            g *= 0x9E3779B9;
+            int bit = g >>> 23;
+            bits[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(int key) {
+        long h = mix(key);
+        int base = block(h);
+        int g = (int) h;
+        for (int i = 0; i < hashes; i++) {
+            g *= 0x9E3779B9;
+            int bit = g >>> 23;
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public int getHashCount() {
+        return hashes;
+    }
+
+    public long getBitCount() {
+        return (long) bits.length * Long.SIZE;
+    }
+
+    // First long of the block chosen by the top 32 bits of the hash (multiply-shift, no modulo)
+    private int block(long h) {
+        return (int) (((h >>> 32) * blocks) >>> 32) * BLOCK_LONGS;
+    }
+
+    // 64-bit finalizer from MurmurHash3: every input bit affects every output bit
+    private static long mix(int key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,58 @@
+package com.dsa.algorithms.searching;
+
+// Exponential search over a sorted array: probes indices 0, 1, 3, 7, 15, ... until it passes
+// the target, then binary searches the last doubling. Costs O(log i) for a target at index i
+// and never reads past 2i + 1, so it suits arrays that are read from the front, such as a
+// stream being buffered, where the end is far away or not yet known.
+public class ExponentialSearch implements Searchable {
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    public ExponentialSearch() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public ExponentialSearch(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        int index = searchFrom(array, 0, target, trace);
+        return index >= 0 ? index : -1;
+    }
+
+    // Gallops right from start, which must not be past the target's position.
+    // Returns the index of target or -(insertion point + 1).
+    static int searchFrom(int[] array, int start, int target, StepBuffer trace) {
+        int n = array.length;
+        int prev = start - 1;   // last index known to hold a value < target
+        int step = 1;
+        while (step <= n - start) {
+            int probe = start + step - 1;
+            if (trace != null) trace.add(probe);
+            if (array[probe] == target) return probe;
+            if (array[probe] > target) return BinarySearch.searchRange(array, prev + 1, probe - 1, target, trace);
+            prev = probe;
+            if (step > (n - start) / 2) break;
+            step <<= 1;
+        }
+        return BinarySearch.searchRange(array, prev + 1, n - 1, target, trace);
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+}
@@ -0,0 +1,142 @@
+package com.dsa.algorithms.searching;
+
+// Prebuilt binary search index over a sorted array in Eytzinger (BFS) order.
+// Node k's children sit at 2k and 2k + 1, so the first levels of every search share
+// the same few cache lines and each next probe is at a predictable address. The search
+// loop has no data-dependent branch (the comparison becomes the next child offset) and
+// touches the node four levels ahead; Java has no prefetch intrinsic, so that load stands in
+// for one and lets the CPU fetch the line while the current comparisons run.
+//
+// Each node stores its value next to its position in the sorted array, so mapping the
+// answer back costs no extra cache miss.
+//
+// Results and traces use logical positions in the sorted array, like BinarySearch. With
+// duplicate keys the first occurrence is returned, where BinarySearch may return any match.
+// search(array, target) only uses the index for the array it was built from; any other array
+// gets a lower-bound binary search in place, with the same first-occurrence answer.
+public class EytzingerIndex implements Searchable {
+    private final int[] source;     // array the index was built from (identity only)
+    private final int[] nodes;      // node k (1..n, BFS order): value at 2k, sorted-array index at 2k + 1
+    private final int n;
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    // Empty index; search(array, target) then binary searches whatever array it is given
+    public EytzingerIndex() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public EytzingerIndex(boolean tracing) {
+        this.source = null;
+        this.nodes = new int[2];
+        this.n = 0;
+        this.tracing = tracing;
+    }
+
+    // Copies sorted into BFS order; later changes to sorted are not seen by the index
+    public EytzingerIndex(int[] sorted) {
+        this(sorted, true);
+    }
+
+    public EytzingerIndex(int[] sorted, boolean tracing) {
+        if (sorted == null) throw new IllegalArgumentException("array must not be null");
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) throw new IllegalArgumentException("array must be sorted");
+        }
+        this.source = sorted;
+        this.n = sorted.length;
+        this.nodes = new int[2 * (n + 1)];
+        this.tracing = tracing;
+        build(sorted);
+    }
+
+    // In-order walk of the implicit tree assigns the sorted values in order
+    private void build(int[] sorted) {
+        int next = 0;
+        int k = 1;
+        // Iterative in-order traversal: descend left, visit, then go right
+        int[] stack = new int[33];
+        int top = 0;
+        while (top > 0 || k <= n) {
+            if (k <= n) {
+                stack[top++] = k;
+                k = 2 * k;
+            } else {
+                k = stack[--top];
+                nodes[2 * k] = sorted[next];
+                nodes[2 * k + 1] = next++;
+                k = 2 * k + 1;
+            }
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    // Logical index of target in the sorted array, or -1
+    public int indexOf(int target) {
+        int k = lowerBoundNode(target);
+        return k != 0 && nodes[2 * k] == target ? nodes[2 * k + 1] : -1;
+    }
+
+    // Same lookup, appending the logical index of every probed node to trace
+    public int indexOf(int target, StepBuffer trace) {
+        if (trace == null) return indexOf(target);
+        int k = 1;
+        while (k <= n) {
+            trace.add(nodes[2 * k + 1]);
+            k = 2 * k + (nodes[2 * k] < target ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && nodes[2 * k] == target ? nodes[2 * k + 1] : -1;
+    }
+
+    // Number of values < target, i.e. the first logical index whose value is >= target
+    public int lowerBound(int target) {
+        int k = lowerBoundNode(target);
+        return k == 0 ? n : nodes[2 * k + 1];
+    }
+
+    // Node holding the first value >= target, or 0 when every value is smaller
+    private int lowerBoundNode(int target) {
+        int[] t = nodes;
+        int k = 1;
+        int ahead = 0;
+        while (k <= n) {
+            ahead ^= t[2 * (int) Math.min((long) k << 4, n)];
+            k = 2 * k + (t[2 * k] < target ? 1 : 0);
+        }
+        // The path went right after every "<" comparison; undo those moves and the final
+        // left turn to land on the last node where it went left (the answer). n >> 31 is
+        // always 0, but the JIT cannot prove it, so the look-ahead loads stay live without
+        // a store to shared state (find() must not touch the instance).
+        return (k >>> (Integer.numberOfTrailingZeros(~k) + 1)) | (ahead & (n >> 31));
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    // Uses this index when array is the one it was built from. Any other array is searched in
+    // place: building an index for it would cost O(n) per lookup, more than a linear scan.
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        if (array == source) return indexOf(target, trace);
+        if (array == null) return -1;
+        int i = RangeQuery.lowerBound(array, target, trace);
+        return i < array.length && array[i] == target ? i : -1;
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+}
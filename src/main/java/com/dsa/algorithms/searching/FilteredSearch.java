@@ -0,0 +1,128 @@
+package com.dsa.algorithms.searching;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Wraps any Searchable with a BlockedBloomFilter built over one array, so lookups of values the
+// array does not hold are answered -1 after a single cache-line check instead of a full search.
+// Lookups on other arrays go straight to the wrapped search.
+//
+// The filter is built when the array is attached; changing the array afterwards makes the
+// filter stale (it may then wrongly reject values added since). Statistics are kept with
+// LongAdders, so the reentrant search(array, target, trace) can be shared between threads.
+public class FilteredSearch implements Searchable {
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private final Searchable delegate;
+    private final int[] array;
+    private final BlockedBloomFilter filter;
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    private final LongAdder filteredOut = new LongAdder();      // rejected by the filter
+    private final LongAdder falsePositives = new LongAdder();   // passed the filter, then not found
+    private final LongAdder hits = new LongAdder();             // passed the filter and found
+    private final LongAdder unfiltered = new LongAdder();       // other arrays, not checked
+
+    public FilteredSearch(Searchable delegate, int[] array) {
+        this(delegate, array, DEFAULT_FALSE_POSITIVE_RATE, true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing, whatever the delegate's
+    // own flag (search(array, target) hands the delegate a null trace)
+    public FilteredSearch(Searchable delegate, int[] array, boolean tracing) {
+        this(delegate, array, DEFAULT_FALSE_POSITIVE_RATE, tracing);
+    }
+
+    public FilteredSearch(Searchable delegate, int[] array, double falsePositiveRate) {
+        this(delegate, array, falsePositiveRate, true);
+    }
+
+    public FilteredSearch(Searchable delegate, int[] array, double falsePositiveRate, boolean tracing) {
+        if (delegate == null) throw new IllegalArgumentException("delegate must not be null");
+        this.delegate = delegate;
+        this.array = array;
+        this.filter = BlockedBloomFilter.of(array, falsePositiveRate);
+        this.tracing = tracing;
+    }
+
+    public Searchable getDelegate() {
+        return delegate;
+    }
+
+    public BlockedBloomFilter getFilter() {
+        return filter;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    // When tracing, cleared steps mean the filter answered without searching
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        if (array == this.array && !filter.mightContain(target)) {
+            filteredOut.increment();
+            return -1;
+        }
+        int index = delegate.search(array, target, trace);
+        count(array, index);
+        return index;
+    }
+
+    private void count(int[] searched, int index) {
+        if (searched != array) unfiltered.increment();
+        else if (index < 0) falsePositives.increment();
+        else hits.increment();
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+
+    // Lookups on the attached array
+    public long getLookups() {
+        return filteredOut.sum() + falsePositives.sum() + hits.sum();
+    }
+
+    public long getFilteredOut() {
+        return filteredOut.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getUnfilteredLookups() {
+        return unfiltered.sum();
+    }
+
+    // Share of absent values that still reached the search; compare with the configured rate
+    public double getObservedFalsePositiveRate() {
+        long misses = filteredOut.sum() + falsePositives.sum();
+        return misses == 0 ? 0.0 : (double) falsePositives.sum() / misses;
+    }
+
+    public void resetStatistics() {
+        filteredOut.reset();
+        falsePositives.reset();
+        hits.reset();
+        unfiltered.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FilteredSearch{lookups=%d, filteredOut=%d, falsePositives=%d, hits=%d, observedFpr=%.4f}",
+                getLookups(), getFilteredOut(), getFalsePositives(), getHits(), getObservedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,80 @@
+package com.dsa.algorithms.searching;
+
+// Galloping (finger) search over a sorted array: starts at a hint index and gallops left or
+// right with doubling steps, then binary searches the last doubling. Costs O(log d) where d
+// is the distance from the hint to the target, so a run of nearby lookups - consecutive keys
+// from a stream, or merging sorted sequences - stays cheap no matter how large the array is.
+//
+// search(array, target) starts from where the previous call ended (found index or insertion
+// point) and moves the finger; search(array, target, trace) starts from 0 and keeps no state.
+// search(array, target, hint, trace) takes the hint explicitly and is reentrant.
+public class GallopingSearch implements Searchable {
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+    private int finger;
+
+    public GallopingSearch() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public GallopingSearch(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public int getFinger() {
+        return finger;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        int index = gallop(array, target, finger, tracing ? steps : null);
+        finger = index >= 0 ? index : -(index + 1);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        return search(array, target, 0, trace);
+    }
+
+    // hint is clamped to the array, so any value is accepted
+    public int search(int[] array, int target, int hint, StepBuffer trace) {
+        int index = gallop(array, target, hint, trace);
+        return index >= 0 ? index : -1;
+    }
+
+    // Returns the index of target or -(insertion point + 1)
+    private static int gallop(int[] array, int target, int hint, StepBuffer trace) {
+        int n = array.length;
+        if (n == 0) return -1;
+        int start = Math.max(0, Math.min(hint, n - 1));
+        if (trace != null) trace.add(start);
+        if (array[start] == target) return start;
+        if (array[start] < target) return ExponentialSearch.searchFrom(array, start + 1, target, trace);
+
+        // Mirror of ExponentialSearch.searchFrom, galloping left from start - 1
+        int prev = start;       // last index known to hold a value > target
+        int step = 1;
+        while (step <= start) {
+            int probe = start - step;
+            if (trace != null) trace.add(probe);
+            if (array[probe] == target) return probe;
+            if (array[probe] < target) return BinarySearch.searchRange(array, probe + 1, prev - 1, target, trace);
+            prev = probe;
+            if (step > start / 2) break;
+            step <<= 1;
+        }
+        return BinarySearch.searchRange(array, 0, prev - 1, target, trace);
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+}
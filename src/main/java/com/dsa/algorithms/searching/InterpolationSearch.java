@@ -0,0 +1,76 @@
+package com.dsa.algorithms.searching;
+
+// Interpolation search over a sorted array: each probe is placed where the target would sit if
+// the values in [low, high] were spread evenly, so uniformly distributed keys take about
+// log log n probes instead of log n.
+//
+// Skewed data can make interpolation crawl one element at a time, so the number of
+// interpolated probes is capped at probeBudget(n); past that the rest of the range is
+// finished with plain binary search. Worst case is probeBudget(n) + log n probes.
+public class InterpolationSearch implements Searchable {
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    public InterpolationSearch() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public InterpolationSearch(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        int low = 0, high = array.length - 1;
+        int budget = probeBudget(array.length);
+
+        while (low <= high) {
+            if (budget-- == 0) {
+                int index = BinarySearch.searchRange(array, low, high, target, trace);
+                return index >= 0 ? index : -1;
+            }
+            int lowValue = array[low], highValue = array[high];
+            // Outside the range's values: cannot be present
+            if (target < lowValue || target > highValue) return -1;
+
+            int pos = low;
+            if (highValue != lowValue) {
+                double fraction = ((double) target - lowValue) / ((double) highValue - lowValue);
+                pos = low + (int) (fraction * (high - low));
+            }
+            if (trace != null) trace.add(pos);
+
+            if (array[pos] == target)
+                return pos;
+            else if (array[pos] < target)
+                low = pos + 1;
+            else
+                high = pos - 1;
+        }
+        return -1;
+    }
+
+    // Interpolated probes allowed before switching to binary search: twice the expected
+    // log log n on uniform keys, plus slack for small arrays
+    static int probeBudget(int n) {
+        int log = 32 - Integer.numberOfLeadingZeros(n);
+        int logLog = 32 - Integer.numberOfLeadingZeros(log);
+        return 2 * logLog + 2;
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+}
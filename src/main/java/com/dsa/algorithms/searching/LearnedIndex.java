@@ -0,0 +1,257 @@
+package com.dsa.algorithms.searching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Learned index over a sorted array, after the PGM-index: the position of each key is
+// approximated by a piecewise-linear function whose error is at most epsilon, so a lookup is
+// a model prediction followed by a binary search of the 2 * epsilon + 1 positions around it.
+//
+// Segments are fitted greedily: each one starts at a key and is extended while some slope
+// keeps every covered key within epsilon of its position (a shrinking cone of valid slopes).
+// This is not the optimal segmentation of the original PGM, but it has the same error bound
+// and is built in one pass. The segments' first keys are indexed the same way, level by level
+// (with INTERNAL_EPSILON), until one segment remains, so finding the segment is also a few
+// predictions plus small searches.
+//
+// The index keeps a reference to the sorted array rather than a copy; the array must not be
+// changed afterwards. With duplicate keys the first occurrence is returned, and traces hold the
+// array positions probed by the final search. search(array, target) only uses the model for
+// the array it was built from; any other array gets a lower-bound binary search in place.
+public class LearnedIndex implements Searchable {
+    public static final int DEFAULT_EPSILON = 64;
+    static final int INTERNAL_EPSILON = 4;
+
+    private final int[] data;
+    private final int epsilon;
+    // levels[0] models positions in data; levels[l] models positions in levels[l - 1].keys
+    private final Level[] levels;
+    private final long buildNanos;
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+    private long sink;              // keeps the timed lookups from being optimized away
+
+    // Empty index; search(array, target) then binary searches whatever array it is given
+    public LearnedIndex() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public LearnedIndex(boolean tracing) {
+        this(new int[0], DEFAULT_EPSILON, tracing);
+    }
+
+    public LearnedIndex(int[] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    public LearnedIndex(int[] sorted, int epsilon) {
+        this(sorted, epsilon, true);
+    }
+
+    public LearnedIndex(int[] sorted, int epsilon, boolean tracing) {
+        if (sorted == null) throw new IllegalArgumentException("array must not be null");
+        if (epsilon < 1) throw new IllegalArgumentException("epsilon must be at least 1");
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) throw new IllegalArgumentException("array must be sorted");
+        }
+        long start = System.nanoTime();
+        this.data = sorted;
+        this.epsilon = epsilon;
+        this.tracing = tracing;
+
+        List<Level> built = new ArrayList<>();
+        Level level = Level.fit(sorted, sorted.length, epsilon);
+        built.add(level);
+        while (level.size > 1) {
+            level = Level.fit(level.keys, level.size, INTERNAL_EPSILON);
+            built.add(level);
+        }
+        this.levels = built.toArray(new Level[0]);
+        this.buildNanos = System.nanoTime() - start;
+    }
+
+    public int size() {
+        return data.length;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public int getEpsilon() {
+        return epsilon;
+    }
+
+    // Time spent fitting the model, in nanoseconds (the sortedness check included)
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    // Segments on the bottom level, i.e. linear pieces modelling the data itself
+    public int getSegmentCount() {
+        return levels[0].size;
+    }
+
+    // Bytes held by the model: a key, a slope and a start position per segment on every level
+    public long getModelBytes() {
+        long segments = 0;
+        for (Level level : levels) segments += level.size;
+        return segments * (Integer.BYTES + Double.BYTES + Integer.BYTES);
+    }
+
+    // Mean latency of indexOf over targets, in nanoseconds. The batch is timed as a whole, so
+    // the clock reads do not inflate the figure; run it twice to let the JIT warm up first.
+    public double averageLookupNanos(int[] targets) {
+        if (targets == null || targets.length == 0) throw new IllegalArgumentException("targets must not be empty");
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int target : targets) sum += indexOf(target);
+        long elapsed = System.nanoTime() - start;
+        sink = sum;
+        return (double) elapsed / targets.length;
+    }
+
+    // Index of the first occurrence of target, or -1
+    public int indexOf(int target) {
+        return indexOf(target, null);
+    }
+
+    public int indexOf(int target, StepBuffer trace) {
+        int n = data.length;
+        if (n == 0 || target < data[0] || target > data[n - 1]) return -1;
+
+        // Walk down the levels: each prediction narrows the segment search on the level below
+        int segment = 0;
+        for (int l = levels.length - 1; l > 0; l--) {
+            Level below = levels[l - 1];
+            int pos = levels[l].predict(segment, target, below.size);
+            segment = lastAtMost(below.keys, target,
+                    Math.max(0, pos - INTERNAL_EPSILON - 2), Math.min(below.size, pos + INTERNAL_EPSILON + 3));
+        }
+        int pos = levels[0].predict(segment, target, n);
+        int lo = Math.max(0, pos - epsilon - 2), hi = Math.min(n, pos + epsilon + 3);
+
+        // Lower bound of target in data[lo, hi)
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (trace != null) trace.add(mid);
+            if (data[mid] < target) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo < n && data[lo] == target ? lo : -1;
+    }
+
+    // Last index in [lo, hi) holding a key <= target; the window is known to contain it
+    private static int lastAtMost(int[] keys, int target, int lo, int hi) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] <= target) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo - 1;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    // Uses this index when array is the one it was built from. Any other array is searched in
+    // place: fitting a model for it would cost a full pass over the array per lookup.
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        if (array == data) return indexOf(target, trace);
+        if (array == null) return -1;
+        int i = RangeQuery.lowerBound(array, target, trace);
+        return i < array.length && array[i] == target ? i : -1;
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+
+    @Override
+    public String toString() {
+        return "LearnedIndex{keys=" + data.length + ", epsilon=" + epsilon + ", segments=" + getSegmentCount()
+                + ", levels=" + levels.length + ", modelBytes=" + getModelBytes()
+                + ", buildMs=" + buildNanos / 1_000_000 + "}";
+    }
+
+    // One level of segments. Segment s covers keys from keys[s] up to the next segment's key
+    // and predicts position starts[s] + slopes[s] * (key - keys[s]).
+    private static final class Level {
+        int[] keys = new int[16];
+        double[] slopes = new double[16];
+        int[] starts = new int[16];
+        int size;
+
+        // Keys between two segments are predicted by extrapolating the earlier one, which is
+        // unbounded, so the result is capped at the next segment's start (or at limit)
+        int predict(int segment, int key, int limit) {
+            double pos = starts[segment] + slopes[segment] * ((double) key - keys[segment]);
+            return (int) Math.min(pos, segment + 1 < size ? starts[segment + 1] : limit);
+        }
+
+        // Fits segments to (values[i], i) for i in [0, n), taking only the first index of
+        // each run of equal values
+        static Level fit(int[] values, int n, int eps) {
+            Level level = new Level();
+            if (n == 0) {
+                level.add(0, 0, 0);
+                return level;
+            }
+            int originKey = values[0], originPos = 0;
+            double low = 0, high = Double.POSITIVE_INFINITY;
+            for (int i = 1; i < n; i++) {
+                if (values[i] == values[i - 1]) continue;
+                double dx = (double) values[i] - originKey;
+                double lowHere = (i - eps - originPos) / dx;
+                double highHere = (i + eps - originPos) / dx;
+                double newLow = Math.max(low, lowHere), newHigh = Math.min(high, highHere);
+                if (newLow > newHigh) {
+                    level.add(originKey, slope(low, high), originPos);
+                    originKey = values[i];
+                    originPos = i;
+                    low = 0;
+                    high = Double.POSITIVE_INFINITY;
+                } else {
+                    low = newLow;
+                    high = newHigh;
+                }
+            }
+            level.add(originKey, slope(low, high), originPos);
+            level.trim();
+            return level;
+        }
+
+        private static double slope(double low, double high) {
+            return high == Double.POSITIVE_INFINITY ? 0 : (low + high) / 2;
+        }
+
+        private void add(int key, double slope, int start) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                slopes = Arrays.copyOf(slopes, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+            }
+            keys[size] = key;
+            slopes[size] = slope;
+            starts[size] = start;
+            size++;
+        }
+
+        private void trim() {
+            keys = Arrays.copyOf(keys, size);
+            slopes = Arrays.copyOf(slopes, size);
+            starts = Arrays.copyOf(starts, size);
+        }
+    }
+}
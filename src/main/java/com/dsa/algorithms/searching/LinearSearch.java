@@ -1,16 +1,39 @@
 package com.dsa.algorithms.searching;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class LinearSearch implements Searchable {
-    private List<Integer> steps = new ArrayList<>();
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    public LinearSearch() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public LinearSearch(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
 
     @Override
     public int search(int[] array, int target) {
         steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        if (trace == null) {
+            for (int i = 0; i < array.length; i++) {
+                if (array[i] == target)
+                    return i;
+            }
+            return -1;
+        }
         for (int i = 0; i < array.length; i++) {
-            steps.add(i);  // track each checked index
+            trace.add(i);  // track each checked index
             if (array[i] == target)
                 return i;
         }
@@ -19,6 +42,6 @@ public class LinearSearch implements Searchable {
 
     @Override
     public int[] getSearchSteps() {
-        return steps.stream().mapToInt(i -> i).toArray();
+        return steps.toArray();
     }
 }
@@ -0,0 +1,131 @@
+package com.dsa.algorithms.searching;
+
+import com.dsa.algorithms.sorting.ExternalMergeSort.ElementType;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Binary search over a sorted binary file of ints or longs (the format ExternalMergeSort writes),
+// read in place through memory-mapped buffers instead of being loaded onto the heap. Opening
+// costs one mmap call per GB; pages are faulted in by the OS as searches touch them.
+//
+// With a sparse index (the default) every stride-th key is copied into a long[] on the heap.
+// A lookup first binary searches that array, then only the stride keys between two samples in
+// the file, so the cold probes that would each fault a different page shrink from log2 n to
+// about log2 stride, all within a few neighbouring pages.
+//
+// Keys are returned as long for both element types. The file must not change while mapped;
+// the mapping is released when this object is garbage collected.
+public class MappedSortedFile {
+    public static final int DEFAULT_SPARSE_STRIDE = 4096;
+    private static final int MAP_SHIFT = 30;                 // map at most 1 GB at a time
+    private static final long MAP_MASK = (1L << MAP_SHIFT) - 1;
+
+    private final ElementType type;
+    private final long size;
+    private final MappedByteBuffer[] maps;
+    private final int stride;                                // 0: no sparse index
+    private final long[] sparse;                             // sparse[j] = key(j * stride)
+
+    private MappedSortedFile(Path file, ElementType type, ByteOrder order, int stride) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % type.bytes() != 0) {
+                throw new IllegalArgumentException("File size " + bytes + " is not a multiple of " + type.bytes() + " bytes");
+            }
+            this.type = type;
+            this.size = bytes / type.bytes();
+            this.maps = new MappedByteBuffer[(int) ((bytes + MAP_MASK) >>> MAP_SHIFT)];
+            for (int i = 0; i < maps.length; i++) {
+                long pos = (long) i << MAP_SHIFT;
+                maps[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(1L << MAP_SHIFT, bytes - pos));
+                maps[i].order(order);
+            }
+        }
+        this.stride = stride;
+        if (stride > 0) {
+            if ((size + stride - 1) / stride > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("sparseStride " + stride + " is too small for " + size + " keys");
+            }
+            sparse = new long[(int) ((size + stride - 1) / stride)];
+            for (int j = 0; j < sparse.length; j++) sparse[j] = get((long) j * stride);
+        } else {
+            sparse = null;
+        }
+    }
+
+    // Little-endian file with the default sparse index
+    public static MappedSortedFile open(Path file, ElementType type) throws IOException {
+        return open(file, type, ByteOrder.LITTLE_ENDIAN, DEFAULT_SPARSE_STRIDE);
+    }
+
+    // sparseStride = 0 searches the file directly, without a sparse index
+    public static MappedSortedFile open(Path file, ElementType type, ByteOrder order, int sparseStride) throws IOException {
+        if (file == null || type == null || order == null) throw new IllegalArgumentException("arguments must not be null");
+        if (sparseStride < 0) throw new IllegalArgumentException("sparseStride must not be negative");
+        return new MappedSortedFile(file, type, order, sparseStride);
+    }
+
+    public ElementType getElementType() {
+        return type;
+    }
+
+    // Number of keys in the file
+    public long size() {
+        return size;
+    }
+
+    public int getSparseStride() {
+        return stride;
+    }
+
+    // Heap held by the sparse index
+    public long getSparseIndexBytes() {
+        return sparse == null ? 0 : (long) sparse.length * Long.BYTES;
+    }
+
+    public long get(long index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + " out of [0, " + size + ")");
+        long offset = index * type.bytes();
+        MappedByteBuffer map = maps[(int) (offset >>> MAP_SHIFT)];
+        int pos = (int) (offset & MAP_MASK);
+        return type == ElementType.INT ? map.getInt(pos) : map.getLong(pos);
+    }
+
+    // Index of the first occurrence of key, or -1
+    public long indexOf(long key) {
+        long pos = lowerBound(key);
+        return pos < size && get(pos) == key ? pos : -1;
+    }
+
+    // First index whose key is >= key (size() if none)
+    public long lowerBound(long key) {
+        long low = 0, high = size;
+        if (sparse != null) {
+            // First sample >= key: the answer lies after the previous sample, up to this one
+            int lo = 0, hi = sparse.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sparse[mid] < key) lo = mid + 1;
+                else hi = mid;
+            }
+            if (lo == 0) return 0;
+            low = (long) (lo - 1) * stride + 1;
+            high = lo < sparse.length ? (long) lo * stride : size;
+        }
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (get(mid) < key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    public boolean contains(long key) {
+        return indexOf(key) >= 0;
+    }
+}
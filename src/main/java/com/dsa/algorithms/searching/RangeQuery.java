@@ -0,0 +1,143 @@
+package com.dsa.algorithms.searching;
+
+import java.util.Arrays;
+
+// Position and counting queries over a sorted array that may hold duplicates:
+//   lowerBound(x)        - first index whose value is >= x (array length if none)
+//   upperBound(x)        - first index whose value is >  x
+//   countEqual(x)        - occurrences of x, upperBound(x) - lowerBound(x)
+//   countInRange(lo, hi) - values v with lo <= v < hi
+// Each takes an optional StepBuffer that receives every probed index, as in Searchable.
+// countInRanges and histogram answer a whole batch with one forward pass over the array.
+// The array is assumed sorted; it is not checked, since that would cost more than the query.
+public final class RangeQuery {
+
+    private RangeQuery() {
+    }
+
+    public static int lowerBound(int[] sorted, int target) {
+        return lowerBound(sorted, target, null);
+    }
+
+    public static int lowerBound(int[] sorted, int target, StepBuffer trace) {
+        checkArray(sorted);
+        int low = 0, high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (trace != null) trace.add(mid);
+            if (sorted[mid] < target) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    public static int upperBound(int[] sorted, int target) {
+        return upperBound(sorted, target, null);
+    }
+
+    public static int upperBound(int[] sorted, int target, StepBuffer trace) {
+        checkArray(sorted);
+        int low = 0, high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (trace != null) trace.add(mid);
+            if (sorted[mid] <= target) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    public static int countEqual(int[] sorted, int target) {
+        return countEqual(sorted, target, null);
+    }
+
+    public static int countEqual(int[] sorted, int target, StepBuffer trace) {
+        return upperBound(sorted, target, trace) - lowerBound(sorted, target, trace);
+    }
+
+    // Values v with low <= v < high; 0 when high <= low
+    public static int countInRange(int[] sorted, int low, int high) {
+        return countInRange(sorted, low, high, null);
+    }
+
+    public static int countInRange(int[] sorted, int low, int high, StepBuffer trace) {
+        checkArray(sorted);
+        if (high <= low) return 0;
+        return lowerBound(sorted, high, trace) - lowerBound(sorted, low, trace);
+    }
+
+    // counts[i] = countInRange(sorted, lows[i], highs[i]). All 2m bounds are ordered once and
+    // resolved in ascending order by galloping forward from the previous position, so the
+    // array is walked once: O(m log m + m log(n / m)) instead of 2m full binary searches.
+    public static int[] countInRanges(int[] sorted, int[] lows, int[] highs) {
+        checkArray(sorted);
+        if (lows == null || highs == null) throw new IllegalArgumentException("bounds must not be null");
+        if (lows.length != highs.length) throw new IllegalArgumentException("lows and highs must have the same length");
+        int m = lows.length;
+
+        // Value in the high 32 bits, slot in the low 32: sorting the longs orders by value
+        long[] bounds = new long[2 * m];
+        for (int i = 0; i < m; i++) {
+            bounds[2 * i] = (long) lows[i] << 32 | (2 * i);
+            bounds[2 * i + 1] = (long) highs[i] << 32 | (2 * i + 1);
+        }
+        Arrays.sort(bounds);
+
+        int[] positions = new int[2 * m];
+        int pos = 0;
+        for (long bound : bounds) {
+            pos = gallopLowerBound(sorted, pos, (int) (bound >> 32));
+            positions[(int) bound] = pos;
+        }
+
+        int[] counts = new int[m];
+        for (int i = 0; i < m; i++) {
+            counts[i] = highs[i] <= lows[i] ? 0 : positions[2 * i + 1] - positions[2 * i];
+        }
+        return counts;
+    }
+
+    // counts[i] = values in [boundaries[i], boundaries[i + 1]); boundaries must be ascending
+    public static int[] histogram(int[] sorted, int[] boundaries) {
+        checkArray(sorted);
+        if (boundaries == null || boundaries.length < 2) {
+            throw new IllegalArgumentException("need at least two boundaries");
+        }
+        int[] counts = new int[boundaries.length - 1];
+        int prev = gallopLowerBound(sorted, 0, boundaries[0]);
+        for (int i = 1; i < boundaries.length; i++) {
+            if (boundaries[i] < boundaries[i - 1]) throw new IllegalArgumentException("boundaries must be ascending");
+            int next = gallopLowerBound(sorted, prev, boundaries[i]);
+            counts[i - 1] = next - prev;
+            prev = next;
+        }
+        return counts;
+    }
+
+    // Lower bound of target in sorted[from, n), given that every value before from is < target:
+    // gallops forward from from, then binary searches the last doubling
+    static int gallopLowerBound(int[] sorted, int from, int target) {
+        int n = sorted.length;
+        if (from >= n || sorted[from] >= target) return from;
+        int low = from, high = n;   // sorted[low] < target, sorted[high] >= target (or high == n)
+        for (int step = 1; step < n - from; step <<= 1) {
+            if (sorted[from + step] >= target) {
+                high = from + step;
+                break;
+            }
+            low = from + step;
+            if (step > (n - from) >>> 1) break;
+        }
+        low++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < target) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static void checkArray(int[] sorted) {
+        if (sorted == null) throw new IllegalArgumentException("array must not be null");
+    }
+}
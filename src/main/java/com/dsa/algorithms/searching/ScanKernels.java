@@ -0,0 +1,14 @@
+package com.dsa.algorithms.searching;
+
+// SIMD equality scans used when Simd.ENABLED. The Vector API implementation, VectorScan, lives
+// in src/simd/java and is compiled only with -P simd; results match the scalar loops exactly.
+interface ScanKernels {
+    // Ints per vector
+    int lanes();
+
+    // First index in [from, to) holding target, or -1
+    int indexOf(int[] a, int from, int to, int target);
+
+    // First index of target in the block [start, min(start + lanes(), to)), or -1
+    int indexInBlock(int[] a, int start, int to, int target);
+}
@@ -0,0 +1,73 @@
+package com.dsa.algorithms.searching;
+
+import java.util.Arrays;
+
+// Immutable outcome of one Searchable.find call: the index found (-1 if absent) and,
+// when requested, the indices visited on the way. Safe to share between threads.
+public final class SearchResult {
+    private static final int[] NO_STEPS = new int[0];
+    private static final SearchResult NOT_FOUND = new SearchResult(-1, null);
+
+    private final int index;
+    private final int[] steps;      // null when no trace was recorded
+
+    private SearchResult(int index, int[] steps) {
+        this.index = index;
+        this.steps = steps;
+    }
+
+    public static SearchResult of(int index) {
+        return index < 0 ? NOT_FOUND : new SearchResult(index, null);
+    }
+
+    // Copies the buffer's contents, so the buffer can be reused afterwards
+    public static SearchResult of(int index, StepBuffer trace) {
+        if (trace == null) return of(index);
+        return new SearchResult(index < 0 ? -1 : index, trace.toArray());
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isFound() {
+        return index >= 0;
+    }
+
+    public boolean hasTrace() {
+        return steps != null;
+    }
+
+    // Visited indices in order; empty when no trace was recorded
+    public int[] getSteps() {
+        return steps == null ? NO_STEPS : steps.clone();
+    }
+
+    public int getStepCount() {
+        return steps == null ? 0 : steps.length;
+    }
+
+    public int getStep(int i) {
+        if (i < 0 || i >= getStepCount()) {
+            throw new IndexOutOfBoundsException("Step " + i + " out of range [0, " + getStepCount() + ")");
+        }
+        return steps[i];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SearchResult other)) return false;
+        return index == other.index && Arrays.equals(steps, other.steps);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * index + Arrays.hashCode(steps);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{index=" + index + (steps == null ? "" : ", steps=" + Arrays.toString(steps)) + "}";
+    }
+}
@@ -4,8 +4,27 @@ public interface Searchable {
     // Searches for a target value in the given array.
     // array  - The array to search in.
     // target -  The value to search for.
+    // Keeps the steps in the instance for getSearchSteps(), so a shared instance is not thread-safe;
+    // use find() for concurrent lookups.
     int search(int[] array, int target);
 
-    // Returns an array of indices visited during the search,
+    // Same search, appending every visited index to trace (pass null to record nothing).
+    // Uses no internal state, so it never allocates beyond growing the caller's buffer.
+    int search(int[] array, int target, StepBuffer trace);
+
+    // Returns an array of indices visited during the last search(array, target) call
     int[] getSearchSteps();
+
+    // Reentrant lookup: touches no instance state, so one instance can serve any number
+    // of threads. The result carries the visited indices when withTrace is true.
+    default SearchResult find(int[] array, int target, boolean withTrace) {
+        if (!withTrace) return SearchResult.of(search(array, target, null));
+        StepBuffer trace = new StepBuffer();
+        int index = search(array, target, trace);
+        return SearchResult.of(index, trace);
+    }
+
+    default SearchResult find(int[] array, int target) {
+        return find(array, target, false);
+    }
 }
@@ -0,0 +1,30 @@
+package com.dsa.algorithms.searching;
+
+// Runtime switch for the Vector API kernels behind ScanKernels, mirroring the one in the
+// sorting package. SIMD paths are used only when the build included them (mvn -P simd), the
+// JVM runs with -Ddsa.simd=true and the jdk.incubator.vector module is resolved
+// (--add-modules jdk.incubator.vector). Otherwise VectorScan is never loaded and every search
+// stays on its scalar code.
+final class Simd {
+    static final String PROPERTY = "dsa.simd";
+    static final ScanKernels KERNELS = load();
+    static final boolean ENABLED = KERNELS != null;
+    // Elements compared per block: the vector width when enabled, else that of a 256-bit vector
+    static final int LANES = ENABLED ? KERNELS.lanes() : 8;
+
+    private Simd() {
+    }
+
+    private static ScanKernels load() {
+        if (!Boolean.getBoolean(PROPERTY)) return null;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            ScanKernels kernels = (ScanKernels) Class.forName("com.dsa.algorithms.searching.VectorScan")
+                    .getDeclaredConstructor().newInstance();
+            // Narrower than 128-bit vectors cannot beat the scalar loops
+            return kernels.lanes() >= 4 ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.dsa.algorithms.searching;
+
+import java.util.Arrays;
+
+// Growable int buffer for search traces.
+// Recording a probe is an array store, so a reused buffer stops allocating once it
+// has grown to the longest trace; clear() keeps the capacity.
+public class StepBuffer {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private int[] data;
+    private int size = 0;
+
+    public StepBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public StepBuffer(int initialCapacity) {
+        if (initialCapacity < 1) throw new IllegalArgumentException("initialCapacity must be positive");
+        data = new int[initialCapacity];
+    }
+
+    public void add(int value) {
+        if (size == data.length) data = Arrays.copyOf(data, size * 2);
+        data[size++] = value;
+    }
+
+    public int get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index " + i + " out of range [0, " + size + ")");
+        return data[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Copy of the recorded values
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,76 @@
+package com.dsa.algorithms.searching;
+
+// Linear search that compares a whole block of Simd.LANES elements per step with the Vector
+// API when Simd.ENABLED (a -P simd build run with -Ddsa.simd=true and --add-modules
+// jdk.incubator.vector), and with a plain loop otherwise. Returns the first matching index,
+// like LinearSearch.
+//
+// Traces record the first index of every block compared and then the match, if any, so a
+// visualizer that treats everything before a step as checked still shows the scan. Both paths
+// record the same steps; a traced search compares block by block instead of four at a time.
+public class VectorLinearSearch implements Searchable {
+    private final boolean tracing;
+    private final StepBuffer steps = new StepBuffer();
+
+    public VectorLinearSearch() {
+        this(true);
+    }
+
+    // tracing = false: search() records no steps and allocates nothing
+    public VectorLinearSearch(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    // Elements compared per block (and per recorded step)
+    public static int blockSize() {
+        return Simd.LANES;
+    }
+
+    @Override
+    public int search(int[] array, int target) {
+        steps.clear();
+        return search(array, target, tracing ? steps : null);
+    }
+
+    @Override
+    public int search(int[] array, int target, StepBuffer trace) {
+        int n = array.length;
+        if (trace == null) {
+            if (Simd.ENABLED) return Simd.KERNELS.indexOf(array, 0, n, target);
+            for (int i = 0; i < n; i++) {
+                if (array[i] == target)
+                    return i;
+            }
+            return -1;
+        }
+        for (int start = 0; start < n; start += Simd.LANES) {
+            trace.add(start);
+            int match = Simd.ENABLED
+                    ? Simd.KERNELS.indexInBlock(array, start, n, target)
+                    : scalarIndexInBlock(array, start, n, target);
+            if (match >= 0) {
+                if (match != start) trace.add(match);
+                return match;
+            }
+        }
+        return -1;
+    }
+
+    private static int scalarIndexInBlock(int[] array, int start, int n, int target) {
+        int end = Math.min(start + Simd.LANES, n);
+        for (int i = start; i < end; i++) {
+            if (array[i] == target)
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int[] getSearchSteps() {
+        return steps.toArray();
+    }
+}
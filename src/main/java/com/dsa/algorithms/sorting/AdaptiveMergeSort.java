@@ -0,0 +1,466 @@
+package com.dsa.algorithms.sorting;
+
+// Run-detecting merge sort behind MergeSort.Mode.ADAPTIVE (TimSort-style).
+// The array is scanned left to right for natural runs; strictly descending runs are
+// reversed in place and short runs are extended to minRun with binary insertion.
+// Runs are pushed on a stack whose lengths must keep growing like Fibonacci numbers,
+// which bounds the stack depth and keeps merges balanced. Merges gallop (exponential
+// search + bulk copy) once one side keeps winning, so already ordered input is O(n).
+// One instance is used per sort. step() does the work of one detected run or one merge,
+// so sort() is step() in a loop and MergeSort's stepIterator pauses between calls; when a
+// trace is given every write goes through it and each step is captured with its label.
+// With a SortMetrics (never together with a trace) each run detection, insertion, gallop and
+// merge counts its reads, comparisons and writes in locals and adds them there when it ends.
+final class AdaptiveMergeSort {
+    // Arrays shorter than this are one binary-insertion run
+    static final int MIN_MERGE = 32;
+    // Consecutive wins before a merge switches to galloping
+    static final int MIN_GALLOP = 7;
+    // Enough for any int-length array given the run-length invariant
+    private static final int MAX_STACK = 49;
+
+    private final int[] a;
+    private final SortTrace trace;      // null when sorting without steps
+    private final SortMetrics m;        // null unless counting
+    private int[] tmp;
+    private int minGallop = MIN_GALLOP;
+
+    private final int[] runBase = new int[MAX_STACK];
+    private final int[] runLen = new int[MAX_STACK];
+    private int stackSize = 0;
+
+    private final int minRun;
+    private int lo = 0;                 // start of the next run to detect
+    private boolean started = false;
+    private boolean collapsed = true;   // stack invariant restored since the last run was pushed
+    private String label;               // of the last step, only kept when tracing
+
+    AdaptiveMergeSort(int[] a, SortTrace trace, SortMetrics m) {
+        this.a = a;
+        this.trace = trace;
+        this.m = m;
+        this.tmp = new int[Math.min(256, a.length / 2 + 1)];
+        this.minRun = minRunLength(a.length);
+        if (m != null) m.countAllocation(tmp.length);
+    }
+
+    static void sort(int[] a, SortTrace trace, SortMetrics m) {
+        if (a.length < 2) return;
+        AdaptiveMergeSort ms = new AdaptiveMergeSort(a, trace, m);
+        while (ms.step()) {
+            if (trace != null) trace.snapshot(ms.label);
+        }
+    }
+
+    // Advances to the end of the next step; false once the array is sorted. The first step
+    // is the untouched input, then one per detected run, each followed by the merges the
+    // stack invariant requires, then the final merges.
+    boolean step() {
+        int n = a.length;
+        if (!started) {
+            started = true;
+            label = "Start";
+            return n >= 2;
+        }
+        if (n < MIN_MERGE) {
+            // The whole array is a single binary-insertion run
+            if (lo == n) return false;
+            int runEnd = countRunAndMakeAscending(0, n);
+            binaryInsertionSort(0, n, runEnd);
+            lo = n;
+            label = "Run [0, " + n + ") sorted by binary insertion";
+            return true;
+        }
+
+        if (!collapsed) {
+            int merge = stackSize > 1 ? collapseTarget() : -1;
+            if (merge >= 0) {
+                mergeAt(merge);
+                return true;
+            }
+            collapsed = true;
+        }
+        if (lo == n) {
+            if (stackSize < 2) return false;
+            mergeAt(forceCollapseTarget());
+            return true;
+        }
+
+        int runEnd = countRunAndMakeAscending(lo, n);
+        int natural = runEnd - lo;
+        int len = natural;
+        if (len < minRun) {
+            len = Math.min(minRun, n - lo);
+            binaryInsertionSort(lo, lo + len, runEnd);
+        }
+        if (trace != null) {
+            label = "Run [" + lo + ", " + (lo + len) + ") detected"
+                    + (len > natural ? ", extended from " + natural : "");
+        }
+        pushRun(lo, len);
+        lo += len;
+        collapsed = false;
+        return true;
+    }
+
+    // minRun in [MIN_MERGE / 2, MIN_MERGE] such that n / minRun is a power of two or just below
+    static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    // Returns the end of the run starting at lo, reversing it first if strictly descending
+    private int countRunAndMakeAscending(int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) return hi;
+        if (a[runHi++] < a[lo]) {
+            // Strictly descending only, so reversing cannot reorder equal elements
+            while (runHi < hi && a[runHi] < a[runHi - 1]) runHi++;
+            reverse(lo, runHi);
+        } else {
+            while (runHi < hi && a[runHi] >= a[runHi - 1]) runHi++;
+        }
+        if (m != null) {
+            // One comparison per element the run grew by, plus the one that ended it short of hi
+            int compared = runHi - lo - 1 + (runHi < hi ? 1 : 0);
+            m.countReads(2 * compared);
+            m.countComparisons(compared);
+        }
+        return runHi;
+    }
+
+    private void reverse(int lo, int hi) {
+        if (m != null) m.countSwaps((hi - lo) / 2);
+        hi--;
+        while (lo < hi) {
+            int t = a[lo];
+            put(lo++, a[hi]);
+            put(hi--, t);
+        }
+    }
+
+    // Sorts [lo, hi) given that [lo, start) is already sorted
+    private void binaryInsertionSort(int lo, int hi, int start) {
+        if (start == lo) start++;
+        int inserted = hi - start, probes = 0, shifted = 0;
+        for (; start < hi; start++) {
+            int pivot = a[start];
+            int left = lo, right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                probes++;
+                if (pivot < a[mid])
+                    right = mid;
+                else
+                    left = mid + 1;
+            }
+            shifted += start - left;
+            copy(a, left, left + 1, start - left);
+            put(left, pivot);
+        }
+        if (m != null && inserted > 0) {
+            m.countReads(inserted + probes + shifted);
+            m.countComparisons(probes);
+            m.countWrites(shifted + inserted);
+        }
+    }
+
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    // The next merge needed to restore runLen[i - 2] > runLen[i - 1] + runLen[i] and
+    // runLen[i - 1] > runLen[i] for the top of the stack (checking one level deeper than
+    // the original TimSort), or -1 once both hold
+    private int collapseTarget() {
+        int n = stackSize - 2;
+        if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+            if (runLen[n - 1] < runLen[n + 1]) n--;
+        } else if (runLen[n] > runLen[n + 1]) {
+            return -1;
+        }
+        return n;
+    }
+
+    // After the last run every remaining pair is merged, smaller neighbours first
+    private int forceCollapseTarget() {
+        int n = stackSize - 2;
+        if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+        return n;
+    }
+
+    // Merges stack runs i and i + 1
+    private void mergeAt(int i) {
+        int base1 = runBase[i], len1 = runLen[i];
+        int base2 = runBase[i + 1], len2 = runLen[i + 1];
+        int end = base2 + len2;
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // Elements of run 1 not above run 2's first, and of run 2 not below run 1's last, are in place
+        int k = boundaryFromLeft(a, base1, base1 + len1, a[base2], true, m) - base1;
+        if (m != null) m.countReads(1);
+        String label = trace == null ? null : "Merge [" + base1 + ", " + base2 + ") + [" + base2 + ", " + end + ")";
+        base1 += k;
+        len1 -= k;
+        if (len1 > 0) {
+            len2 = boundaryFromRight(a, base2, base2 + len2, a[base1 + len1 - 1], false, m) - base2;
+            if (m != null) m.countReads(1);
+            if (len2 > 0) {
+                if (len1 <= len2)
+                    mergeLo(base1, len1, base2, len2);
+                else
+                    mergeHi(base1, len1, base2, len2);
+            }
+        }
+        if (trace != null) this.label = label;
+    }
+
+    // Merges with run 1 (the shorter) copied to tmp, filling a from the left
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        int[] t = ensureCapacity(len1);
+        System.arraycopy(a, base1, t, 0, len1);
+        int c1 = 0, c2 = base2, dest = base1, end2 = base2 + len2;
+        int gallop = minGallop;
+        // Counted at the end: compared moves take two reads, a comparison and a write; moved
+        // values (copies and the single moves between gallops) a read and a write; keys a read
+        int compared = 0, moved = len1, keys = 0;
+
+        outer:
+        while (true) {
+            int wins1 = 0, wins2 = 0;
+            // One element at a time until a side wins gallop times in a row
+            do {
+                compared++;
+                if (a[c2] < t[c1]) {
+                    put(dest++, a[c2++]);
+                    wins2++;
+                    wins1 = 0;
+                    if (c2 == end2) break outer;
+                } else {
+                    put(dest++, t[c1++]);
+                    wins1++;
+                    wins2 = 0;
+                    if (c1 == len1) break outer;
+                }
+            } while ((wins1 | wins2) < gallop);
+
+            // Galloping: find how far each side wins and move that stretch in one copy
+            do {
+                wins1 = boundaryFromLeft(t, c1, len1, a[c2], true, m) - c1;
+                keys++;
+                moved += wins1 + 1;
+                if (wins1 != 0) {
+                    copy(t, c1, dest, wins1);
+                    dest += wins1;
+                    c1 += wins1;
+                    if (c1 == len1) {
+                        moved--;
+                        break outer;
+                    }
+                }
+                put(dest++, a[c2++]);
+                if (c2 == end2) break outer;
+
+                wins2 = boundaryFromLeft(a, c2, end2, t[c1], false, m) - c2;
+                keys++;
+                moved += wins2 + 1;
+                if (wins2 != 0) {
+                    copy(a, c2, dest, wins2);
+                    dest += wins2;
+                    c2 += wins2;
+                    if (c2 == end2) {
+                        moved--;
+                        break outer;
+                    }
+                }
+                put(dest++, t[c1++]);
+                if (c1 == len1) break outer;
+                gallop--;
+            } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+            // Leaving gallop mode is penalised so random data does not flip-flop
+            if (gallop < 0) gallop = 0;
+            gallop += 2;
+        }
+        minGallop = Math.max(1, gallop);
+        // Whatever is left of run 2 is already in place
+        if (c1 < len1) {
+            moved += len1 - c1;
+            copy(t, c1, dest, len1 - c1);
+        }
+        count(compared, moved, keys);
+    }
+
+    // Merges with run 2 (the shorter) copied to tmp, filling a from the right
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        int[] t = ensureCapacity(len2);
+        System.arraycopy(a, base2, t, 0, len2);
+        int c1 = base1 + len1 - 1, c2 = len2 - 1, dest = base2 + len2 - 1;
+        int gallop = minGallop;
+        int compared = 0, moved = len2, keys = 0;     // as in mergeLo
+
+        outer:
+        while (true) {
+            int wins1 = 0, wins2 = 0;
+            do {
+                // Ties go to run 2 here, since its elements belong after equal run-1 ones
+                compared++;
+                if (t[c2] < a[c1]) {
+                    put(dest--, a[c1--]);
+                    wins1++;
+                    wins2 = 0;
+                    if (c1 < base1) break outer;
+                } else {
+                    put(dest--, t[c2--]);
+                    wins2++;
+                    wins1 = 0;
+                    if (c2 < 0) break outer;
+                }
+            } while ((wins1 | wins2) < gallop);
+
+            do {
+                wins1 = c1 + 1 - boundaryFromRight(a, base1, c1 + 1, t[c2], true, m);
+                keys++;
+                moved += wins1 + 1;
+                if (wins1 != 0) {
+                    dest -= wins1;
+                    c1 -= wins1;
+                    copy(a, c1 + 1, dest + 1, wins1);
+                    if (c1 < base1) {
+                        moved--;
+                        break outer;
+                    }
+                }
+                put(dest--, t[c2--]);
+                if (c2 < 0) break outer;
+
+                wins2 = c2 + 1 - boundaryFromRight(t, 0, c2 + 1, a[c1], false, m);
+                keys++;
+                moved += wins2 + 1;
+                if (wins2 != 0) {
+                    dest -= wins2;
+                    c2 -= wins2;
+                    copy(t, c2 + 1, dest + 1, wins2);
+                    if (c2 < 0) {
+                        moved--;
+                        break outer;
+                    }
+                }
+                put(dest--, a[c1--]);
+                if (c1 < base1) break outer;
+                gallop--;
+            } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+            if (gallop < 0) gallop = 0;
+            gallop += 2;
+        }
+        minGallop = Math.max(1, gallop);
+        // Whatever is left of run 1 is already in place
+        if (c2 >= 0) {
+            moved += c2 + 1;
+            copy(t, 0, dest - c2, c2 + 1);
+        }
+        count(compared, moved, keys);
+    }
+
+    private void count(int compared, int moved, int keys) {
+        if (m == null) return;
+        m.countReads(2 * compared + moved + keys);
+        m.countComparisons(compared);
+        m.countWrites(compared + moved);
+    }
+
+    // First index in [lo, hi) whose value is > key (inclusive) or >= key (otherwise),
+    // probing lo, lo+2, lo+6, lo+14, ... (offsets 2^k - 2) before a binary search
+    // With m, each probe counts one read and one comparison (key is read by the caller)
+    static int boundaryFromLeft(int[] arr, int lo, int hi, int key, boolean inclusive, SortMetrics m) {
+        int n = hi - lo;
+        int last = 0, ofs = 1;
+        while (ofs <= n && before(arr[lo + ofs - 1], key, inclusive)) {
+            last = ofs;
+            ofs = (ofs << 1) + 1;
+            if (ofs <= 0) ofs = n + 1;  // overflow
+        }
+        if (m != null) countProbes(m, last, ofs <= n);
+        return binaryBoundary(arr, lo + last, Math.min(lo + ofs - 1, hi), key, inclusive, m);
+    }
+
+    // Same boundary as boundaryFromLeft, probing hi-1, hi-3, hi-7, ... from the right end instead
+    static int boundaryFromRight(int[] arr, int lo, int hi, int key, boolean inclusive, SortMetrics m) {
+        int n = hi - lo;
+        int last = 0, ofs = 1;
+        while (ofs <= n && !before(arr[hi - ofs], key, inclusive)) {
+            last = ofs;
+            ofs = (ofs << 1) + 1;
+            if (ofs <= 0) ofs = n + 1;
+        }
+        if (m != null) countProbes(m, last, ofs <= n);
+        return binaryBoundary(arr, Math.max(lo, hi - ofs + 1), hi - last, key, inclusive, m);
+    }
+
+    // last = 2^k - 1 after k passing probes; one more failed unless the search ran off the end
+    private static void countProbes(SortMetrics m, int last, boolean stopped) {
+        int probes = Integer.bitCount(last) + (stopped ? 1 : 0);
+        m.countReads(probes);
+        m.countComparisons(probes);
+    }
+
+    private static int binaryBoundary(int[] arr, int lo, int hi, int key, boolean inclusive, SortMetrics m) {
+        int probes = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            probes++;
+            if (before(arr[mid], key, inclusive))
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        if (m != null) {
+            m.countReads(probes);
+            m.countComparisons(probes);
+        }
+        return lo;
+    }
+
+    private static boolean before(int value, int key, boolean inclusive) {
+        return inclusive ? value <= key : value < key;
+    }
+
+    private int[] ensureCapacity(int needed) {
+        if (tmp.length < needed) {
+            int capacity = Integer.highestOneBit(needed) << 1;
+            tmp = new int[capacity < 0 || capacity > a.length ? Math.max(needed, a.length / 2) : capacity];
+            if (m != null) m.countAllocation(tmp.length);
+        }
+        return tmp;
+    }
+
+    private void put(int index, int value) {
+        if (trace != null)
+            trace.set(index, value);
+        else
+            a[index] = value;
+    }
+
+    // Copies len values from src[srcPos] to a[destPos], overlap-safe like System.arraycopy
+    private void copy(int[] src, int srcPos, int destPos, int len) {
+        if (trace == null) {
+            System.arraycopy(src, srcPos, a, destPos, len);
+        } else if (src == a && destPos > srcPos) {
+            for (int i = len - 1; i >= 0; i--) trace.set(destPos + i, src[srcPos + i]);
+        } else {
+            for (int i = 0; i < len; i++) trace.set(destPos + i, src[srcPos + i]);
+        }
+    }
+}
@@ -1,32 +1,41 @@
 package com.dsa.algorithms.sorting;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 
 public class BubbleSort implements Sortable {
 
     @Override
     public int[] sort(int[] arr) {
+        if (arr != null) sort(arr, null);
+        return arr;
+    }
+
+    // With m, every comparison and swap (and the reads behind them) is counted there
+    private static void sort(int[] arr, SortMetrics m) {
         int n = arr.length;
-        boolean swapped;
+        int swaps;
 
         for (int i = 0; i < n - 1; i++) {
-            swapped = false;
+            swaps = 0;
             for (int j = 0; j < n - i - 1; j++) {
                 if (arr[j] > arr[j + 1]) {
                     swap(arr, j, j + 1);
-                    swapped = true;
+                    swaps++;
                 }
             }
-            if (!swapped) break;
+            if (m != null) {
+                m.countReads(2 * (n - i - 1));
+                m.countComparisons(n - i - 1);
+                m.countSwaps(swaps);
+            }
+            if (swaps == 0) break;
         }
-        return arr;
     }
 
     @Override
-    public List<int[]> sortWithSteps(int[] arr) {
-        List<int[]> steps = new ArrayList<>();
-        steps.add(arr.clone()); // initial state
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        trace.snapshot(); // initial state
 
         int n = arr.length;
         boolean swapped;
@@ -35,25 +44,71 @@ public class BubbleSort implements Sortable {
             swapped = false;
             for (int j = 0; j < n - i - 1; j++) {
                 if (arr[j] > arr[j + 1]) {
-                    swap(arr, j, j + 1);
+                    trace.swap(j, j + 1);
                     swapped = true;
                 }
-                steps.add(arr.clone()); // capture after swap
+                trace.snapshot(); // capture after swap
 
             }
             if (!swapped) 
             {
                 // Add final state if no swaps occurred
-                steps.add(arr.clone());
+                trace.snapshot();
                 break;
             }
         }
-        return steps;
+        return trace;
     }
 
-    private void swap(int[] arr, int i, int j) {
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("BubbleSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr != null) sort(arr, m);
+        }, true);
+    }
+
+    private static void swap(int[] arr, int i, int j) {
         int temp = arr[i];
         arr[i] = arr[j];
         arr[j] = temp;
     }
+
+    @Override
+    public Iterator<int[]> stepIterator(int[] arr) {
+        return new SortStepIterator(arr) {
+            private final int n = arr.length;
+            private boolean started = false;
+            private boolean done = false;
+            private boolean swapped = false;
+            private int i = 0, j = 0;
+
+            @Override
+            protected boolean advance() {
+                if (!started) {
+                    started = true;
+                    return true; // initial state
+                }
+                while (!done && i < n - 1) {
+                    if (j < n - i - 1) {
+                        if (arr[j] > arr[j + 1]) {
+                            swap(j, j + 1);
+                            swapped = true;
+                        }
+                        j++;
+                        return true;
+                    }
+                    if (!swapped) {
+                        done = true;
+                        return true; // final state if no swaps occurred
+                    }
+                    i++;
+                    j = 0;
+                    swapped = false;
+                }
+                done = true;
+                return false;
+            }
+        };
+    }
 }
@@ -0,0 +1,98 @@
+package com.dsa.algorithms.sorting;
+
+// Counting sort for keys drawn from a small value range.
+// When max - min + 1 exceeds maxRange the count array would dwarf the input,
+// so the sort falls back to LSD radix sort instead.
+public class CountingSort implements Sortable {
+    public static final int DEFAULT_MAX_RANGE = 1 << 20;
+
+    private final int maxRange;
+    private final boolean parallelHistogram;
+
+    public CountingSort() {
+        this(DEFAULT_MAX_RANGE, true);
+    }
+
+    public CountingSort(int maxRange, boolean parallelHistogram) {
+        if (maxRange < 1) throw new IllegalArgumentException("maxRange must be positive");
+        this.maxRange = maxRange;
+        this.parallelHistogram = parallelHistogram;
+    }
+
+    @Override
+    public int[] sort(int[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        countingSort(arr, null);
+        return arr;
+    }
+
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("CountingSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr != null && arr.length >= 2) countingSort(arr, m);
+        }, true);
+    }
+
+    // With m, the min / max scans, the histogram and the write-back (or the radix sort it
+    // falls back to) are counted there
+    private void countingSort(int[] arr, SortMetrics m) {
+        int min = min(arr), max = max(arr);
+        if (m != null) {
+            // Each scan reads arr[0] and then compares every element against the running extreme
+            m.countReads(2 * (arr.length + 1));
+            m.countComparisons(2 * arr.length);
+        }
+        long range = (long) max - min + 1;
+        if (range > maxRange) {
+            new LSDRadixSort(LSDRadixSort.DEFAULT_DIGIT_BITS, parallelHistogram).radixSort(arr, m);
+            return;
+        }
+
+        int[] counts = Histograms.valueCounts(arr, min, (int) range, parallelHistogram, m);
+        int k = 0;
+        for (int v = 0; v < counts.length; v++) {
+            for (int c = counts[v]; c > 0; c--) arr[k++] = v + min;
+        }
+        if (m != null) m.countWrites(k);
+    }
+
+    // One step per distinct value written back into place
+    @Override
+    public SortTrace sortWithTrace(int[] arr) {
+        if (arr != null && arr.length >= 2) {
+            long range = (long) max(arr) - min(arr) + 1;
+            if (range > maxRange) {
+                return new LSDRadixSort(LSDRadixSort.DEFAULT_DIGIT_BITS, parallelHistogram).sortWithTrace(arr);
+            }
+        }
+        SortTrace trace = new SortTrace(arr);
+        if (arr == null) return trace;
+        trace.snapshot(); // initial state
+        if (arr.length < 2) return trace;
+
+        int min = min(arr);
+        int[] counts = Histograms.valueCounts(arr, min, max(arr) - min + 1, parallelHistogram, null);
+        int k = 0;
+        for (int v = 0; v < counts.length; v++) {
+            if (counts[v] == 0) continue;
+            for (int c = counts[v]; c > 0; c--, k++) {
+                if (arr[k] != v + min) trace.set(k, v + min);
+            }
+            trace.snapshot();
+        }
+        return trace;
+    }
+
+    private static int min(int[] arr) {
+        int min = arr[0];
+        for (int v : arr) if (v < min) min = v;
+        return min;
+    }
+
+    private static int max(int[] arr) {
+        int max = arr[0];
+        for (int v : arr) if (v > max) max = v;
+        return max;
+    }
+}
@@ -0,0 +1,370 @@
+package com.dsa.algorithms.sorting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// Sorts a binary file of ints or longs that does not fit in memory.
+// Phase 1 maps the input chunk by chunk, sorts each chunk in place with a parallel introsort
+// (both sides of every partition above the parallel threshold run as ForkJoin tasks) and
+// spills it to a temp run file. Phase 2 k-way merges all runs with a loser tree, reading and
+// writing through fixed-size buffers.
+//
+// Heap use is one chunk array of chunkBytes, allocated once and reused for every run (the
+// sort itself needs no scratch, which is why it is not MergeSort: its buffer would halve the
+// run length for the same heap and double the runs to merge). The merge buffers are direct ByteBuffers, so the merge
+// phase adds mergeBufferBytes + 1 MB outside the heap rather than on it.
+public class ExternalMergeSort {
+    public enum ElementType {
+        INT(Integer.BYTES), LONG(Long.BYTES);
+
+        private final int bytes;
+
+        ElementType(int bytes) {
+            this.bytes = bytes;
+        }
+
+        public int bytes() {
+            return bytes;
+        }
+    }
+
+    public enum Phase { SORT_RUNS, MERGE, DONE }
+
+    // Snapshot of how far the sort has got, passed to the listener after every chunk / buffer
+    public static final class Progress {
+        private final Phase phase;
+        private final long bytesProcessed;
+        private final long totalBytes;
+        private final long elapsedNanos;
+        private final int runCount;
+
+        Progress(Phase phase, long bytesProcessed, long totalBytes, long elapsedNanos, int runCount) {
+            this.phase = phase;
+            this.bytesProcessed = bytesProcessed;
+            this.totalBytes = totalBytes;
+            this.elapsedNanos = elapsedNanos;
+            this.runCount = runCount;
+        }
+
+        public Phase getPhase() { return phase; }
+        public long getBytesProcessed() { return bytesProcessed; }
+        public long getTotalBytes() { return totalBytes; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public int getRunCount() { return runCount; }
+
+        public double getFraction() {
+            return totalBytes == 0 ? 1.0 : (double) bytesProcessed / totalBytes;
+        }
+
+        // I/O throughput of the current phase in MB/s
+        public double getThroughputMBps() {
+            return elapsedNanos == 0 ? 0.0 : bytesProcessed / 1e6 / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %.1f%% (%d runs, %.1f MB/s)", phase, getFraction() * 100, runCount, getThroughputMBps());
+        }
+    }
+
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    public static final long DEFAULT_CHUNK_BYTES = 256L << 20;
+    public static final int DEFAULT_MERGE_BUFFER_BYTES = 64 << 20;
+    private static final int MAX_MAP_BYTES = 1 << 30;       // map at most 1 GB at a time
+    private static final int MIN_RUN_BUFFER_BYTES = 1 << 12;
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+
+    private final ElementType type;
+    private final long chunkBytes;
+    private final int mergeBufferBytes;
+    private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+    private Path tempDirectory;
+    private ProgressListener listener;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int parallelThreshold = MergeSort.DEFAULT_PARALLEL_THRESHOLD;
+
+    public ExternalMergeSort(ElementType type) {
+        this(type, DEFAULT_CHUNK_BYTES, DEFAULT_MERGE_BUFFER_BYTES);
+    }
+
+    // chunkBytes is the heap taken by the run array; mergeBufferBytes of direct memory is
+    // shared by all run readers
+    public ExternalMergeSort(ElementType type, long chunkBytes, int mergeBufferBytes) {
+        if (type == null) throw new IllegalArgumentException("type must not be null");
+        long maxChunk = (long) (Integer.MAX_VALUE - 8) * type.bytes();
+        if (chunkBytes < type.bytes() || chunkBytes > maxChunk) {
+            throw new IllegalArgumentException("chunkBytes must be between " + type.bytes() + " and " + maxChunk);
+        }
+        if (mergeBufferBytes < MIN_RUN_BUFFER_BYTES) {
+            throw new IllegalArgumentException("mergeBufferBytes must be at least " + MIN_RUN_BUFFER_BYTES);
+        }
+        this.type = type;
+        this.chunkBytes = chunkBytes - chunkBytes % type.bytes();
+        this.mergeBufferBytes = mergeBufferBytes;
+    }
+
+    public void setByteOrder(ByteOrder byteOrder) {
+        this.byteOrder = byteOrder;
+    }
+
+    // Where run files are spilled; defaults to the output file's directory
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    // Pool that sorts the runs (the common pool by default); ranges longer than
+    // parallelThreshold are split into tasks
+    public void setParallelism(ForkJoinPool pool, int parallelThreshold) {
+        if (pool == null) throw new IllegalArgumentException("pool must not be null");
+        if (parallelThreshold < QuickSort.INSERTION_SORT_THRESHOLD) {
+            throw new IllegalArgumentException("parallelThreshold must be at least " + QuickSort.INSERTION_SORT_THRESHOLD);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    // Sorts input into output; returns the number of sorted runs (chunks) that were produced
+    public int sort(Path input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size % type.bytes() != 0) {
+                throw new IllegalArgumentException("File size " + size + " is not a multiple of " + type.bytes() + " bytes");
+            }
+            Path dir = tempDirectory != null ? tempDirectory : output.toAbsolutePath().getParent();
+
+            // One run array for the whole sort, sized for the largest chunk
+            int capacity = (int) (Math.min(chunkBytes, size) / type.bytes());
+            int[] ints = type == ElementType.INT ? new int[capacity] : null;
+            long[] longs = type == ElementType.LONG ? new long[capacity] : null;
+
+            long start = System.nanoTime();
+            int chunks = 0;
+            for (long pos = 0; pos < size; pos += chunkBytes) {
+                long len = Math.min(chunkBytes, size - pos);
+                // A single chunk covering the whole file is written straight to the output
+                Path target = len == size ? output : Files.createTempFile(dir, "run", ".bin");
+                if (target != output) runs.add(target);
+                if (ints != null) sortChunk(in, pos, len, target, ints);
+                else sortChunk(in, pos, len, target, longs);
+                chunks++;
+                report(Phase.SORT_RUNS, pos + len, size, System.nanoTime() - start, chunks);
+            }
+
+            if (size == 0) {
+                new RunWriter(output).close(); // empty input, empty output
+            } else if (!runs.isEmpty()) {
+                mergeRuns(runs, output, size);
+            }
+            report(Phase.DONE, size, size, System.nanoTime() - start, chunks);
+            return chunks;
+        } finally {
+            for (Path run : runs) Files.deleteIfExists(run);
+        }
+    }
+
+    // Reads the chunk at pos into chunk[0, count), sorts it there and writes it to target
+    private void sortChunk(FileChannel in, long pos, long len, Path target, int[] chunk) throws IOException {
+        int count = (int) (len / Integer.BYTES);
+        int filled = 0;
+        for (long off = 0; off < len; off += MAX_MAP_BYTES) {
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, pos + off, Math.min(MAX_MAP_BYTES, len - off));
+            int n = window.capacity() / Integer.BYTES;
+            window.order(byteOrder).asIntBuffer().get(chunk, filled, n);
+            filled += n;
+        }
+        QuickSort.parallelIntrosort(chunk, 0, count - 1, pool, parallelThreshold);
+        try (RunWriter out = new RunWriter(target)) {
+            for (int i = 0; i < count; i++) out.write(chunk[i]);
+        }
+    }
+
+    private void sortChunk(FileChannel in, long pos, long len, Path target, long[] chunk) throws IOException {
+        int count = (int) (len / Long.BYTES);
+        int filled = 0;
+        for (long off = 0; off < len; off += MAX_MAP_BYTES) {
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, pos + off, Math.min(MAX_MAP_BYTES, len - off));
+            int n = window.capacity() / Long.BYTES;
+            window.order(byteOrder).asLongBuffer().get(chunk, filled, n);
+            filled += n;
+        }
+        LongSorts.parallelIntrosort(chunk, 0, count - 1, pool, parallelThreshold);
+        try (RunWriter out = new RunWriter(target)) {
+            for (int i = 0; i < count; i++) out.write(chunk[i]);
+        }
+    }
+
+    private void mergeRuns(List<Path> runs, Path output, long totalBytes) throws IOException {
+        int perRun = Math.max(MIN_RUN_BUFFER_BYTES, mergeBufferBytes / runs.size());
+        perRun -= perRun % Long.BYTES;
+        RunReader[] readers = new RunReader[runs.size()];
+        try (RunWriter out = new RunWriter(output)) {
+            for (int i = 0; i < readers.length; i++) readers[i] = new RunReader(runs.get(i), perRun);
+
+            LoserTree tree = new LoserTree(readers);
+            long start = System.nanoTime();
+            long written = 0;
+            while (!tree.isEmpty()) {
+                out.write(tree.pop());
+                written += type.bytes();
+                if (written % OUTPUT_BUFFER_BYTES == 0) {
+                    report(Phase.MERGE, written, totalBytes, System.nanoTime() - start, runs.size());
+                }
+            }
+            report(Phase.MERGE, written, totalBytes, System.nanoTime() - start, runs.size());
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+    }
+
+    private void report(Phase phase, long done, long total, long elapsed, int runCount) {
+        if (listener != null) listener.onProgress(new Progress(phase, done, total, elapsed, runCount));
+    }
+
+    // Buffered sequential reader over one sorted run; ints are widened to long
+    private final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean eof = false;
+
+        RunReader(Path path, int bufferBytes) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocateDirect(bufferBytes).order(byteOrder);
+            buffer.limit(0);
+        }
+
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= type.bytes()) return true;
+            if (eof) return false;
+            buffer.compact();
+            while (buffer.position() < type.bytes() || buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= type.bytes();
+        }
+
+        long next() {
+            return type == ElementType.INT ? buffer.getInt() : buffer.getLong();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private final class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+
+        RunWriter(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buffer.order(byteOrder);
+        }
+
+        void write(long value) throws IOException {
+            if (buffer.remaining() < type.bytes()) flush();
+            if (type == ElementType.INT) buffer.putInt((int) value);
+            else buffer.putLong(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // Tournament (loser) tree over the heads of k runs: each pop costs log2(k) comparisons,
+    // one per level, against the stored loser instead of both children as in a heap.
+    private static final class LoserTree {
+        private final RunReader[] runs;
+        private final long[] heads;
+        private final boolean[] exhausted;
+        private final int[] tree; // tree[0] = winner, tree[1..k-1] = loser at each internal node
+        private final int k;
+
+        LoserTree(RunReader[] runs) throws IOException {
+            this.runs = runs;
+            this.k = runs.length;
+            this.heads = new long[k];
+            this.exhausted = new boolean[k];
+            this.tree = new int[Math.max(k, 1)];
+            for (int i = 0; i < k; i++) advance(i);
+
+            // Fill with a virtual run k that beats everything, then let each real run play up
+            Arrays.fill(tree, k);
+            for (int i = k - 1; i >= 0; i--) adjust(i);
+        }
+
+        boolean isEmpty() {
+            return exhausted[tree[0]];
+        }
+
+        long pop() throws IOException {
+            int winner = tree[0];
+            long value = heads[winner];
+            advance(winner);
+            adjust(winner);
+            return value;
+        }
+
+        private void advance(int run) throws IOException {
+            if (runs[run].hasNext()) heads[run] = runs[run].next();
+            else exhausted[run] = true;
+        }
+
+        private void adjust(int s) {
+            for (int t = (s + k) >> 1; t > 0; t >>= 1) {
+                if (beats(tree[t], s)) {
+                    int temp = s;
+                    s = tree[t];
+                    tree[t] = temp;
+                }
+            }
+            tree[0] = s;
+        }
+
+        // Ties go to the lower run index, which keeps the merge stable
+        private boolean beats(int a, int b) {
+            if (a == k) return true;
+            if (b == k) return false;
+            if (exhausted[a]) return false;
+            if (exhausted[b]) return true;
+            return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+        }
+    }
+}
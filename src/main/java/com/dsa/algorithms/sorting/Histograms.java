@@ -0,0 +1,145 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Histogram phase shared by the non-comparison sorts.
+// Above PARALLEL_THRESHOLD elements the input is split into chunks that are counted
+// on the common ForkJoinPool and summed, so this phase scales with the core count.
+// With m, each element read and each histogram allocated (one per chunk) is counted there;
+// chunk tasks count into their own SortMetrics, added to m as they are summed.
+final class Histograms {
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private Histograms() {
+    }
+
+    // Sign-flipped key: makes unsigned digit order match signed int order
+    static int key(int value) {
+        return value ^ Integer.MIN_VALUE;
+    }
+
+    // counts[p][digit] for digit positions firstPass .. firstPass + passes - 1 (digit p covers bits
+    // [p * digitBits, (p + 1) * digitBits) of the key) of every element in [from, to), in one scan.
+    // The digit multiset at each position never changes while sorting, so LSD passes can share it.
+    static int[][] digitCounts(int[] arr, int from, int to, int digitBits, int firstPass, int passes, boolean parallel,
+                               SortMetrics m) {
+        if (parallel && to - from > PARALLEL_THRESHOLD) {
+            DigitTask task = new DigitTask(arr, from, to, digitBits, firstPass, passes, m != null);
+            int[][] counts = ForkJoinPool.commonPool().invoke(task);
+            if (m != null) m.add(task.m);
+            return counts;
+        }
+        return digitCountsSequential(arr, from, to, digitBits, firstPass, passes, m);
+    }
+
+    // counts[v - min] for values in [min, min + range)
+    static int[] valueCounts(int[] arr, int min, int range, boolean parallel, SortMetrics m) {
+        // Per-chunk histograms only pay off while they are small next to the chunk itself
+        if (parallel && arr.length > PARALLEL_THRESHOLD && range <= PARALLEL_THRESHOLD) {
+            ValueTask task = new ValueTask(arr, 0, arr.length, min, range, m != null);
+            int[] counts = ForkJoinPool.commonPool().invoke(task);
+            if (m != null) m.add(task.m);
+            return counts;
+        }
+        return valueCountsSequential(arr, 0, arr.length, min, range, m);
+    }
+
+    private static int[][] digitCountsSequential(int[] arr, int from, int to, int digitBits, int firstPass, int passes,
+                                                 SortMetrics m) {
+        int mask = (1 << digitBits) - 1;
+        int[][] counts = new int[passes][1 << digitBits];
+        for (int i = from; i < to; i++) {
+            int k = key(arr[i]);
+            for (int p = 0; p < passes; p++) {
+                counts[p][(k >>> ((firstPass + p) * digitBits)) & mask]++;
+            }
+        }
+        if (m != null) {
+            m.countReads(to - from);
+            m.countAllocation(passes << digitBits);
+        }
+        return counts;
+    }
+
+    private static int[] valueCountsSequential(int[] arr, int from, int to, int min, int range, SortMetrics m) {
+        int[] counts = new int[range];
+        for (int i = from; i < to; i++) counts[arr[i] - min]++;
+        if (m != null) {
+            m.countReads(to - from);
+            m.countAllocation(range);
+        }
+        return counts;
+    }
+
+    private static final class DigitTask extends RecursiveTask<int[][]> {
+        private final int[] arr;
+        private final int from, to, digitBits, firstPass, passes;
+        private final SortMetrics m;        // null unless counting
+
+        DigitTask(int[] arr, int from, int to, int digitBits, int firstPass, int passes, boolean counting) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.digitBits = digitBits;
+            this.firstPass = firstPass;
+            this.passes = passes;
+            this.m = counting ? new SortMetrics() : null;
+        }
+
+        @Override
+        protected int[][] compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return digitCountsSequential(arr, from, to, digitBits, firstPass, passes, m);
+            }
+            int mid = (from + to) >>> 1;
+            DigitTask left = new DigitTask(arr, from, mid, digitBits, firstPass, passes, m != null);
+            DigitTask right = new DigitTask(arr, mid, to, digitBits, firstPass, passes, m != null);
+            left.fork();
+            int[][] counts = right.compute();
+            int[][] other = left.join();
+            for (int p = 0; p < passes; p++) {
+                for (int d = 0; d < counts[p].length; d++) counts[p][d] += other[p][d];
+            }
+            if (m != null) {
+                m.add(left.m);
+                m.add(right.m);
+            }
+            return counts;
+        }
+    }
+
+    private static final class ValueTask extends RecursiveTask<int[]> {
+        private final int[] arr;
+        private final int from, to, min, range;
+        private final SortMetrics m;        // null unless counting
+
+        ValueTask(int[] arr, int from, int to, int min, int range, boolean counting) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.min = min;
+            this.range = range;
+            this.m = counting ? new SortMetrics() : null;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return valueCountsSequential(arr, from, to, min, range, m);
+            }
+            int mid = (from + to) >>> 1;
+            ValueTask left = new ValueTask(arr, from, mid, min, range, m != null);
+            ValueTask right = new ValueTask(arr, mid, to, min, range, m != null);
+            left.fork();
+            int[] counts = right.compute();
+            int[] other = left.join();
+            for (int v = 0; v < range; v++) counts[v] += other[v];
+            if (m != null) {
+                m.add(left.m);
+                m.add(right.m);
+            }
+            return counts;
+        }
+    }
+}
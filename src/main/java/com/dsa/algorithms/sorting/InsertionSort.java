@@ -1,32 +1,48 @@
 package com.dsa.algorithms.sorting;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 
 public class InsertionSort implements Sortable {
 
     @Override
     public int[] sort(int[] arr) {
-        int n = arr.length;
+        if (arr == null) return arr;
+        if (Simd.ENABLED) {
+            Simd.KERNELS.insertionSort(arr, 0, arr.length);
+            return arr;
+        }
+        sortRange(arr, 0, arr.length, null);
+        return arr;
+    }
 
-        for (int i = 1; i < n; i++) {
+    // Insertion sort of [lo, hi); also finishes short ranges in QuickSort and MergeSort.
+    // With m, every read, comparison and write is counted there.
+    static void sortRange(int[] arr, int lo, int hi, SortMetrics m) {
+        for (int i = lo + 1; i < hi; i++) {
             int key = arr[i];
             int j = i - 1;
 
-            while (j >= 0 && arr[j] > key) {
+            while (j >= lo && arr[j] > key) {
                 arr[j + 1] = arr[j];
                 j--;
             }
             arr[j + 1] = key;
-        }
 
-        return arr;
+            if (m != null) {
+                // Each shifted value was read and compared first; stopping above lo took one more
+                int shifted = i - 1 - j;
+                int compared = j >= lo ? shifted + 1 : shifted;
+                m.countReads(1 + compared);
+                m.countComparisons(compared);
+                m.countWrites(shifted + 1);
+            }
+        }
     }
 
     @Override
-    public List<int[]> sortWithSteps(int[] arr) {
-        List<int[]> steps = new ArrayList<>();
-        steps.add(arr.clone()); // initial state
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        trace.snapshot(); // initial state
 
         int n = arr.length;
         for (int i = 1; i < n; i++) {
@@ -34,14 +50,48 @@ public class InsertionSort implements Sortable {
             int j = i - 1;
 
             while (j >= 0 && arr[j] > key) {
-                arr[j + 1] = arr[j];
+                trace.set(j + 1, arr[j]);
                 j--;
             }
-            arr[j + 1] = key;
+            trace.set(j + 1, key);
 
-            steps.add(arr.clone()); // capture after each insertion
+            trace.snapshot(); // capture after each insertion
         }
 
-        return steps;
+        return trace;
+    }
+
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("InsertionSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr != null) sortRange(arr, 0, arr.length, m);
+        }, true);
+    }
+
+    @Override
+    public Iterator<int[]> stepIterator(int[] arr) {
+        return new SortStepIterator(arr) {
+            private int i = 0;
+
+            @Override
+            protected boolean advance() {
+                if (i == 0) {
+                    i = 1;
+                    return true; // initial state
+                }
+                if (i >= arr.length) return false;
+
+                int key = arr[i];
+                int j = i - 1;
+                while (j >= 0 && arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+                i++;
+                return true;
+            }
+        };
     }
 }
@@ -0,0 +1,117 @@
+package com.dsa.algorithms.sorting;
+
+// Least-significant-digit radix sort for int keys.
+// Keys are sign-flipped so negative numbers order correctly, all digit histograms are built
+// in one (optionally parallel) scan, and passes where every key shares the digit are skipped.
+public class LSDRadixSort implements Sortable {
+    public static final int DEFAULT_DIGIT_BITS = 8;
+
+    private final int digitBits;
+    private final int passes;
+    private final boolean parallelHistogram;
+
+    public LSDRadixSort() {
+        this(DEFAULT_DIGIT_BITS, true);
+    }
+
+    // digitBits = 8 gives four passes over 256 buckets, 11 gives three passes over 2048 buckets
+    public LSDRadixSort(int digitBits) {
+        this(digitBits, true);
+    }
+
+    public LSDRadixSort(int digitBits, boolean parallelHistogram) {
+        if (digitBits < 1 || digitBits > 16) {
+            throw new IllegalArgumentException("digitBits must be between 1 and 16");
+        }
+        this.digitBits = digitBits;
+        this.passes = (Integer.SIZE + digitBits - 1) / digitBits;
+        this.parallelHistogram = parallelHistogram;
+    }
+
+    public int getDigitBits() {
+        return digitBits;
+    }
+
+    @Override
+    public int[] sort(int[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        radixSort(arr, null);
+        return arr;
+    }
+
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("LSDRadixSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr != null && arr.length >= 2) radixSort(arr, m);
+        }, true);
+    }
+
+    // Sorts arr (at least two elements); also CountingSort's fallback for wide ranges.
+    // With m, every element read and write and every scratch array is counted there.
+    void radixSort(int[] arr, SortMetrics m) {
+        int n = arr.length;
+        int[][] counts = Histograms.digitCounts(arr, 0, n, digitBits, 0, passes, parallelHistogram, m);
+
+        int[] src = arr;
+        int[] dst = new int[n];
+        if (m != null) m.countAllocation(n);
+        for (int p = 0; p < passes; p++) {
+            if (!scatter(src, dst, p, counts[p], m)) continue;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+            if (m != null) {
+                m.countReads(n);
+                m.countWrites(n);
+            }
+        }
+    }
+
+    // One step per digit pass, each showing the array stably ordered by that digit
+    @Override
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        if (arr == null) return trace;
+        trace.snapshot(); // initial state
+        if (arr.length < 2) return trace;
+
+        int n = arr.length;
+        int[][] counts = Histograms.digitCounts(arr, 0, n, digitBits, 0, passes, parallelHistogram, null);
+        int[] aux = new int[n];
+        for (int p = 0; p < passes; p++) {
+            if (!scatter(arr, aux, p, counts[p], null)) continue;
+            for (int i = 0; i < n; i++) {
+                if (arr[i] != aux[i]) trace.set(i, aux[i]);
+            }
+            trace.snapshot();
+        }
+        return trace;
+    }
+
+    // Stable distribution of src into dst by digit p; returns false (and does nothing) when
+    // every key has the same digit, since the pass would not change the order
+    private boolean scatter(int[] src, int[] dst, int p, int[] count, SortMetrics m) {
+        int n = src.length;
+        int shift = p * digitBits;
+        int mask = (1 << digitBits) - 1;
+        if (m != null) m.countReads(1);
+        if (count[(Histograms.key(src[0]) >>> shift) & mask] == n) return false;
+
+        int[] offset = new int[count.length];
+        for (int d = 1; d < count.length; d++) offset[d] = offset[d - 1] + count[d - 1];
+        for (int i = 0; i < n; i++) {
+            int v = src[i];
+            dst[offset[(Histograms.key(v) >>> shift) & mask]++] = v;
+        }
+        if (m != null) {
+            m.countAllocation(count.length);
+            m.countReads(n);
+            m.countWrites(n);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,307 @@
+package com.dsa.algorithms.sorting;
+
+import java.nio.LongBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// long[] / LongBuffer versions of the QuickSort (introsort) and MergeSort strategies.
+// Java has no primitive generics, so these mirror the int code line for line instead of boxing.
+// Doubles are sorted through order-preserving long keys (see toSortableLong).
+final class LongSorts {
+    private LongSorts() {
+    }
+
+    // Maps a double to a long whose signed order matches Double.compare:
+    // -0.0 sorts before 0.0 and every NaN (canonicalized) sorts after +Infinity
+    static long toSortableLong(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static double fromSortableLong(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    static long[] toKeys(double[] arr) {
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) keys[i] = toSortableLong(arr[i]);
+        return keys;
+    }
+
+    static void fromKeys(long[] keys, double[] arr) {
+        for (int i = 0; i < arr.length; i++) arr[i] = fromSortableLong(keys[i]);
+    }
+
+    // ---- introsort on long[] ----
+
+    static void introsort(long[] arr, int low, int high, int depth) {
+        while (high - low + 1 > QuickSort.INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            long bounds = threeWayPartition(arr, low, high, arr[choosePivot(arr, low, high)]);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+            if (lt - low < high - gt) {
+                introsort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introsort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(arr, low, high + 1);
+    }
+
+    // Same contract as QuickSort.threeWayPartition: lt in the high 32 bits, gt in the low 32
+    private static long threeWayPartition(long[] arr, int low, int high, long pivot) {
+        int lt = low, i = low, gt = high;
+        while (i <= gt) {
+            if (arr[i] < pivot) swap(arr, lt++, i++);
+            else if (arr[i] > pivot) swap(arr, i, gt--);
+            else i++;
+        }
+        return (long) lt << 32 | gt;
+    }
+
+    static void parallelIntrosort(long[] arr, int low, int high, ForkJoinPool pool, int threshold) {
+        pool.invoke(new IntrosortTask(arr, low, high, QuickSort.depthLimit(high - low + 1), threshold));
+    }
+
+    private static final class IntrosortTask extends RecursiveAction {
+        private final long[] arr;
+        private final int low, high, depth, threshold;
+
+        IntrosortTask(long[] arr, int low, int high, int depth, int threshold) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low + 1 <= threshold || depth == 0) {
+                introsort(arr, low, high, depth);
+                return;
+            }
+            long bounds = threeWayPartition(arr, low, high, arr[choosePivot(arr, low, high)]);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+            invokeAll(new IntrosortTask(arr, low, lt - 1, depth - 1, threshold),
+                      new IntrosortTask(arr, gt + 1, high, depth - 1, threshold));
+        }
+    }
+
+    private static int choosePivot(long[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 >= QuickSort.NINTHER_THRESHOLD) {
+            int step = (high - low + 1) / 8;
+            int a = medianOfThree(arr, low, low + step, low + 2 * step);
+            int b = medianOfThree(arr, mid - step, mid, mid + step);
+            int c = medianOfThree(arr, high - 2 * step, high - step, high);
+            return medianOfThree(arr, a, b, c);
+        }
+        return medianOfThree(arr, low, mid, high);
+    }
+
+    private static int medianOfThree(long[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) return b;
+            return arr[a] < arr[c] ? c : a;
+        }
+        if (arr[a] < arr[c]) return a;
+        return arr[b] < arr[c] ? c : b;
+    }
+
+    // Sorts [lo, hi)
+    static void insertionSort(long[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void heapSort(long[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(arr, low, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] arr, int base, int i, int n) {
+        long value = arr[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) child++;
+            if (arr[base + child] <= value) break;
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = value;
+    }
+
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // ---- introsort on a LongBuffer (heap, direct or memory-mapped) ----
+    // Absolute get/put only, so the buffer's position and limit are left untouched.
+
+    static void introsort(LongBuffer buf, int low, int high, int depth) {
+        while (high - low + 1 > QuickSort.INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(buf, low, high);
+                return;
+            }
+            long pivot = buf.get(choosePivot(buf, low, high));
+
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                long v = buf.get(i);
+                if (v < pivot) swap(buf, lt++, i++);
+                else if (v > pivot) swap(buf, i, gt--);
+                else i++;
+            }
+
+            if (lt - low < high - gt) {
+                introsort(buf, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introsort(buf, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            long key = buf.get(i);
+            int j = i - 1;
+            while (j >= low && buf.get(j) > key) {
+                buf.put(j + 1, buf.get(j));
+                j--;
+            }
+            buf.put(j + 1, key);
+        }
+    }
+
+    private static int choosePivot(LongBuffer buf, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 >= QuickSort.NINTHER_THRESHOLD) {
+            int step = (high - low + 1) / 8;
+            int a = medianOfThree(buf, low, low + step, low + 2 * step);
+            int b = medianOfThree(buf, mid - step, mid, mid + step);
+            int c = medianOfThree(buf, high - 2 * step, high - step, high);
+            return medianOfThree(buf, a, b, c);
+        }
+        return medianOfThree(buf, low, mid, high);
+    }
+
+    private static int medianOfThree(LongBuffer buf, int a, int b, int c) {
+        long va = buf.get(a), vb = buf.get(b), vc = buf.get(c);
+        if (va < vb) {
+            if (vb < vc) return b;
+            return va < vc ? c : a;
+        }
+        if (va < vc) return a;
+        return vb < vc ? c : b;
+    }
+
+    private static void heapSort(LongBuffer buf, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(buf, low, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            swap(buf, low, low + end);
+            siftDown(buf, low, 0, end);
+        }
+    }
+
+    private static void siftDown(LongBuffer buf, int base, int i, int n) {
+        long value = buf.get(base + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && buf.get(base + child + 1) > buf.get(base + child)) child++;
+            if (buf.get(base + child) <= value) break;
+            buf.put(base + i, buf.get(base + child));
+            i = child;
+        }
+        buf.put(base + i, value);
+    }
+
+    private static void swap(LongBuffer buf, int i, int j) {
+        long temp = buf.get(i);
+        buf.put(i, buf.get(j));
+        buf.put(j, temp);
+    }
+
+    // ---- merge sort on long[] (same ping-pong scheme as MergeSort) ----
+
+    static void mergeSort(long[] arr, ForkJoinPool pool, int parallelThreshold) {
+        long[] aux = arr.clone();
+        if (pool != null && arr.length > parallelThreshold) {
+            pool.invoke(new SortTask(aux, arr, 0, arr.length, parallelThreshold));
+        } else {
+            sortInto(aux, arr, 0, arr.length);
+        }
+    }
+
+    private static void sortInto(long[] src, long[] dst, int lo, int hi) {
+        if (hi - lo <= MergeSort.INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sortInto(dst, src, lo, mid);
+        sortInto(dst, src, mid, hi);
+        mergeRuns(src, lo, mid, mid, hi, dst, lo);
+    }
+
+    private static void mergeRuns(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int out) {
+        if (lo1 < hi1 && lo2 < hi2 && src[hi1 - 1] <= src[lo2]) {
+            System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+            System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+            return;
+        }
+        int i = lo1, j = lo2, k = out;
+        while (i < hi1 && j < hi2) {
+            dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+        }
+        while (i < hi1) dst[k++] = src[i++];
+        while (j < hi2) dst[k++] = src[j++];
+    }
+
+    private static final class SortTask extends RecursiveAction {
+        private final long[] src, dst;
+        private final int lo, hi, threshold;
+
+        SortTask(long[] src, long[] dst, int lo, int hi, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                sortInto(src, dst, lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(dst, src, lo, mid, threshold),
+                      new SortTask(dst, src, mid, hi, threshold));
+            mergeRuns(src, lo, mid, mid, hi, dst, lo);
+        }
+    }
+}
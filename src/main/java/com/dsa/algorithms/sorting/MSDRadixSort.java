@@ -0,0 +1,118 @@
+package com.dsa.algorithms.sorting;
+
+// Most-significant-digit radix sort for int keys, 8 bits at a time.
+// Each bucket is distributed through one shared auxiliary buffer and recursed into with the
+// next digit; buckets at or below the cutoff are finished with insertion sort.
+public class MSDRadixSort implements Sortable {
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int TOP_PASS = Integer.SIZE / DIGIT_BITS - 1;
+    public static final int DEFAULT_CUTOFF = 32;
+
+    private final int cutoff;
+    private final boolean parallelHistogram;
+
+    public MSDRadixSort() {
+        this(DEFAULT_CUTOFF, true);
+    }
+
+    public MSDRadixSort(int cutoff, boolean parallelHistogram) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive");
+        this.cutoff = cutoff;
+        this.parallelHistogram = parallelHistogram;
+    }
+
+    @Override
+    public int[] sort(int[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        msd(arr, new int[arr.length], 0, arr.length, TOP_PASS, null, null);
+        return arr;
+    }
+
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("MSDRadixSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr == null || arr.length < 2) return;
+            m.countAllocation(arr.length);
+            msd(arr, new int[arr.length], 0, arr.length, TOP_PASS, null, m);
+        }, true);
+    }
+
+    // One step per bucket distribution and per insertion-sorted bucket
+    @Override
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        if (arr == null) return trace;
+        trace.snapshot(); // initial state
+        if (arr.length < 2) return trace;
+        msd(arr, new int[arr.length], 0, arr.length, TOP_PASS, trace, null);
+        return trace;
+    }
+
+    // With m (never together with a trace), every element read and write and every scratch
+    // array is counted there
+    private void msd(int[] arr, int[] aux, int lo, int hi, int pass, SortTrace trace, SortMetrics m) {
+        if (hi - lo <= cutoff) {
+            if (trace == null) InsertionSort.sortRange(arr, lo, hi, m);
+            else insertionSort(arr, lo, hi, trace);
+            return;
+        }
+        int shift = pass * DIGIT_BITS;
+        // Only the top-level histogram is large enough to be worth splitting across threads
+        int[] count = Histograms.digitCounts(arr, lo, hi, DIGIT_BITS, pass, 1,
+                parallelHistogram && pass == TOP_PASS, m)[0];
+
+        int[] start = new int[RADIX + 1];
+        start[0] = lo;
+        for (int d = 0; d < RADIX; d++) start[d + 1] = start[d] + count[d];
+        if (m != null) {
+            m.countAllocation(RADIX + 1);
+            m.countReads(1);
+        }
+
+        if (count[(Histograms.key(arr[lo]) >>> shift) & (RADIX - 1)] != hi - lo) {
+            int[] next = start.clone();
+            for (int i = lo; i < hi; i++) {
+                int v = arr[i];
+                aux[next[(Histograms.key(v) >>> shift) & (RADIX - 1)]++] = v;
+            }
+            if (m != null) {
+                // Scatter into aux and copy back: two reads and two writes per element
+                m.countAllocation(RADIX + 1);
+                m.countReads(2 * (hi - lo));
+                m.countWrites(2 * (hi - lo));
+            }
+            if (trace == null) {
+                System.arraycopy(aux, lo, arr, lo, hi - lo);
+            } else {
+                for (int i = lo; i < hi; i++) {
+                    if (arr[i] != aux[i]) trace.set(i, aux[i]);
+                }
+                trace.snapshot();
+            }
+        }
+
+        if (pass == 0) return;
+        for (int d = 0; d < RADIX; d++) {
+            if (start[d + 1] - start[d] > 1) msd(arr, aux, start[d], start[d + 1], pass - 1, trace, m);
+        }
+    }
+
+    private void insertionSort(int[] arr, int lo, int hi, SortTrace trace) {
+        boolean changed = false;
+        for (int i = lo + 1; i < hi; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                trace.set(j + 1, arr[j]);
+                j--;
+            }
+            if (j + 1 != i) {
+                trace.set(j + 1, key);
+                changed = true;
+            }
+        }
+        if (changed) trace.snapshot();
+    }
+}
@@ -1,65 +1,366 @@
 package com.dsa.algorithms.sorting;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class MergeSort implements Sortable {
+    // TOP_DOWN: split at the midpoint regardless of existing order (optionally in parallel)
+    // ADAPTIVE: detect natural runs, extend short ones with binary insertion and merge
+    //           them with galloping under the TimSort stack invariant; O(n) on sorted input
+    public enum Mode { TOP_DOWN, ADAPTIVE }
 
+    // Runs this short are finished with insertion sort instead of recursing further
+    static final int INSERTION_SORT_THRESHOLD = 32;
+    // Default subarray length above which the parallel mode forks work
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    private final Mode mode;
+    private final ForkJoinPool pool;      // null for the sequential mode
+    private final int parallelThreshold;
+
+    public MergeSort() {
+        this(Mode.TOP_DOWN);
+    }
+
+    // Sequential sort in the given mode
+    public MergeSort(Mode mode) {
+        if (mode == null) throw new IllegalArgumentException("mode must not be null");
+        this.mode = mode;
+        this.pool = null;
+        this.parallelThreshold = Integer.MAX_VALUE;
+    }
+
+    // Parallel mode on the common pool; subarrays longer than parallelThreshold are forked
+    public MergeSort(int parallelThreshold) {
+        this(ForkJoinPool.commonPool(), parallelThreshold);
+    }
+
+    public MergeSort(ForkJoinPool pool, int parallelThreshold) {
+        if (pool == null) throw new IllegalArgumentException("pool must not be null");
+        if (parallelThreshold < INSERTION_SORT_THRESHOLD) {
+            throw new IllegalArgumentException("parallelThreshold must be at least " + INSERTION_SORT_THRESHOLD);
+        }
+        this.mode = Mode.TOP_DOWN;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    // Sorts with a single auxiliary buffer: each level of recursion swaps the roles of
+    // arr and aux (ping-pong), so no merge allocates anything.
     @Override
     public int[] sort(int[] arr) {
         if (arr == null || arr.length < 2) return arr;
-        mergeSort(arr, 0, arr.length - 1);
+        if (mode == Mode.ADAPTIVE) {
+            AdaptiveMergeSort.sort(arr, null, null);
+            return arr;
+        }
+        int[] aux = arr.clone();
+        if (pool != null && arr.length > parallelThreshold) {
+            pool.invoke(new SortTask(aux, arr, 0, arr.length, parallelThreshold, false));
+        } else {
+            sortInto(aux, arr, 0, arr.length, null);
+        }
+        return arr;
+    }
+
+    // Stable long[] sort using the same buffer ping-pong and parallel mode (always TOP_DOWN)
+    public long[] sort(long[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        LongSorts.mergeSort(arr, pool, parallelThreshold);
+        return arr;
+    }
+
+    // Same order as Arrays.sort(double[]): -0.0 before 0.0, NaNs last
+    public double[] sort(double[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        long[] keys = LongSorts.toKeys(arr);
+        LongSorts.mergeSort(keys, pool, parallelThreshold);
+        LongSorts.fromKeys(keys, arr);
         return arr;
     }
 
     @Override
-    public List<int[]> sortWithSteps(int[] arr) {
-        List<int[]> steps = new ArrayList<>();
-        if (arr == null || arr.length < 2) return steps;
-        mergeSortWithSteps(arr, 0, arr.length - 1, steps);
-        return steps;
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        if (arr == null || arr.length < 2) return trace;
+        if (mode == Mode.ADAPTIVE) {
+            // One labelled step per detected run and per merge (see SortTrace.getLabel)
+            AdaptiveMergeSort.sort(arr, trace, null);
+            return trace;
+        }
+        mergeSortWithSteps(arr, new int[arr.length], 0, arr.length - 1, trace);
+        return trace;
     }
 
-    private void mergeSort(int[] arr, int left, int right) {
-        if (left >= right) return;
+    // Counts every mode; in the parallel one each task counts on its own and the counts are
+    // added up at the joins, so they include the parallel merges' split searches
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("MergeSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr == null || arr.length < 2) return;
+            if (mode == Mode.ADAPTIVE) {
+                AdaptiveMergeSort.sort(arr, null, m);
+                return;
+            }
+            int[] aux = arr.clone();
+            m.countAllocation(arr.length);
+            m.countReads(arr.length);
+            m.countWrites(arr.length);
+            if (pool != null && arr.length > parallelThreshold) {
+                SortTask task = new SortTask(aux, arr, 0, arr.length, parallelThreshold, true);
+                pool.invoke(task);
+                m.add(task.m);
+            } else {
+                sortInto(aux, arr, 0, arr.length, m);
+            }
+        }, true);
+    }
 
-        int mid = left + (right - left) / 2;
-        mergeSort(arr, left, mid);
-        mergeSort(arr, mid + 1, right);
-        merge(arr, left, mid, right);
+    // Sorts [lo, hi) into dst using src as scratch; src and dst must hold the same values there.
+    // With m, every read, comparison and write is counted there.
+    static void sortInto(int[] src, int[] dst, int lo, int hi, SortMetrics m) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.sortRange(dst, lo, hi, m);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sortInto(dst, src, lo, mid, m);
+        sortInto(dst, src, mid, hi, m);
+        mergeRuns(src, lo, mid, mid, hi, dst, lo, m);
     }
 
-    private void mergeSortWithSteps(int[] arr, int left, int right, List<int[]> steps) {
+    // Stable merge of src[lo1, hi1) and src[lo2, hi2) into dst starting at out
+    static void mergeRuns(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out, SortMetrics m) {
+        if (lo1 < hi1 && lo2 < hi2) {
+            if (m != null) {
+                m.countReads(2);
+                m.countComparisons(1);
+            }
+            if (src[hi1 - 1] <= src[lo2]) {
+                // Already in order: a straight copy is enough
+                System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+                System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+                if (m != null) {
+                    m.countReads(hi1 - lo1 + hi2 - lo2);
+                    m.countWrites(hi1 - lo1 + hi2 - lo2);
+                }
+                return;
+            }
+        }
+        int i = lo1, j = lo2, k = out;
+        while (i < hi1 && j < hi2) {
+            dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+        }
+        if (m != null) {
+            // Two reads and a comparison per element placed by the loop, one read per tail element
+            int merged = k - out;
+            int tail = hi1 - i + hi2 - j;
+            m.countReads(2 * merged + tail);
+            m.countComparisons(merged);
+            m.countWrites(merged + tail);
+        }
+        while (i < hi1) dst[k++] = src[i++];
+        while (j < hi2) dst[k++] = src[j++];
+    }
+
+    // First index in [lo, hi) whose value is >= key (or > key when strict). With m, the key
+    // and each probe count as a read and each probe as a comparison.
+    private static int bound(int[] arr, int lo, int hi, int key, boolean strict, SortMetrics m) {
+        int probes = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            probes++;
+            if (arr[mid] < key || (strict && arr[mid] == key))
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        if (m != null) {
+            m.countReads(1 + probes);
+            m.countComparisons(probes);
+        }
+        return lo;
+    }
+
+    // Parallel counterpart of sortInto: forks both halves, then merges them in parallel.
+    // When counting, every task has its own m and adds its subtasks' counts after the join.
+    private static final class SortTask extends RecursiveAction {
+        private final int[] src, dst;
+        private final int lo, hi, threshold;
+        private final SortMetrics m;        // null unless counting
+
+        SortTask(int[] src, int[] dst, int lo, int hi, int threshold, boolean counting) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+            this.m = counting ? new SortMetrics() : null;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                sortInto(src, dst, lo, hi, m);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            SortTask left = new SortTask(dst, src, lo, mid, threshold, m != null);
+            SortTask right = new SortTask(dst, src, mid, hi, threshold, m != null);
+            invokeAll(left, right);
+            MergeTask merge = new MergeTask(src, lo, mid, mid, hi, dst, lo, threshold, m != null);
+            merge.compute();
+            if (m != null) {
+                m.add(left.m);
+                m.add(right.m);
+                m.add(merge.m);
+            }
+        }
+    }
+
+    // Splits a merge at the median of the longer run so both halves can merge independently
+    private static final class MergeTask extends RecursiveAction {
+        private final int[] src, dst;
+        private final int lo1, hi1, lo2, hi2, out, threshold;
+        private final SortMetrics m;        // null unless counting
+
+        MergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out, int threshold, boolean counting) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+            this.threshold = threshold;
+            this.m = counting ? new SortMetrics() : null;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1, n2 = hi2 - lo2;
+            if (n1 + n2 <= threshold) {
+                mergeRuns(src, lo1, hi1, lo2, hi2, dst, out, m);
+                return;
+            }
+            int split1, split2;
+            if (n1 >= n2) {
+                // Left-run elements equal to the key stay ahead of right-run ones (stability)
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = bound(src, lo2, hi2, src[split1], false, m);
+            } else {
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = bound(src, lo1, hi1, src[split2], true, m);
+            }
+            int outSplit = out + (split1 - lo1) + (split2 - lo2);
+            MergeTask left = new MergeTask(src, lo1, split1, lo2, split2, dst, out, threshold, m != null);
+            MergeTask right = new MergeTask(src, split1, hi1, split2, hi2, dst, outSplit, threshold, m != null);
+            invokeAll(left, right);
+            if (m != null) {
+                m.add(left.m);
+                m.add(right.m);
+            }
+        }
+    }
+
+    private void mergeSortWithSteps(int[] arr, int[] aux, int left, int right, SortTrace trace) {
         if (left >= right) return;
 
         int mid = left + (right - left) / 2;
-        mergeSortWithSteps(arr, left, mid, steps);
-        mergeSortWithSteps(arr, mid + 1, right, steps);
-        merge(arr, left, mid, right);
+        mergeSortWithSteps(arr, aux, left, mid, trace);
+        mergeSortWithSteps(arr, aux, mid + 1, right, trace);
+        mergeWithSteps(arr, aux, left, mid, right, trace);
 
-        steps.add(arr.clone()); // capture state after each merge
+        trace.snapshot(); // capture state after each merge
     }
 
-    private void merge(int[] arr, int left, int mid, int right) {
-        int n1 = mid - left + 1;
-        int n2 = right - mid;
+    // Same as merge, but records only the positions whose value actually changes
+    private void mergeWithSteps(int[] arr, int[] aux, int left, int mid, int right, SortTrace trace) {
+        System.arraycopy(arr, left, aux, left, right - left + 1);
 
-        int[] L = new int[n1];
-        int[] R = new int[n2];
+        int i = left, j = mid + 1, k = left;
+        while (i <= mid && j <= right) {
+            int value = aux[i] <= aux[j] ? aux[i++] : aux[j++];
+            if (arr[k] != value) trace.set(k, value);
+            k++;
+        }
 
-        for (int i = 0; i < n1; i++) L[i] = arr[left + i];
-        for (int j = 0; j < n2; j++) R[j] = arr[mid + 1 + j];
+        while (i <= mid) {
+            if (arr[k] != aux[i]) trace.set(k, aux[i]);
+            k++; i++;
+        }
+        while (j <= right) {
+            if (arr[k] != aux[j]) trace.set(k, aux[j]);
+            k++; j++;
+        }
+    }
 
-        int i = 0, j = 0, k = left;
-        while (i < n1 && j < n2) {
-            if (L[i] <= R[j]) {
-                arr[k++] = L[i++];
-            } else {
-                arr[k++] = R[j++];
-            }
+    // Merges arr[left..mid] and arr[mid+1..right] in place, staging the range in aux
+    private void merge(int[] arr, int[] aux, int left, int mid, int right) {
+        System.arraycopy(arr, left, aux, left, right - left + 1);
+        mergeRuns(aux, left, mid + 1, mid + 1, right + 1, arr, left, null);
+    }
+
+    // Explicit-stack version of mergeSortWithSteps: pauses after every merge (post-order).
+    // ADAPTIVE mode pauses after each of AdaptiveMergeSort's steps (runs and merges).
+    @Override
+    public Iterator<int[]> stepIterator(int[] arr) {
+        if (mode == Mode.ADAPTIVE) {
+            return new SortStepIterator(arr) {
+                private final AdaptiveMergeSort steps = arr == null ? null : new AdaptiveMergeSort(arr, null, null);
+
+                @Override
+                protected boolean advance() {
+                    return steps != null && steps.step();
+                }
+            };
         }
+        return new SortStepIterator(arr) {
+            private int[] stack = new int[24];
+            private int top = 0;
+            private final int[] aux = arr == null ? null : new int[arr.length];
+
+            {
+                if (arr != null && arr.length >= 2) push(0, arr.length - 1, 0);
+            }
 
-        while (i < n1) arr[k++] = L[i++];
-        while (j < n2) arr[k++] = R[j++];
+            @Override
+            protected boolean advance() {
+                while (top > 0) {
+                    int merged = stack[--top];
+                    int right = stack[--top];
+                    int left = stack[--top];
+                    if (left >= right) continue;
+
+                    int mid = left + (right - left) / 2;
+                    if (merged == 1) {
+                        merge(arr, aux, left, mid, right);
+                        return true;
+                    }
+                    push(left, right, 1);
+                    push(mid + 1, right, 0);
+                    push(left, mid, 0);
+                }
+                return false;
+            }
+
+            private void push(int left, int right, int merged) {
+                if (top + 3 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+                stack[top++] = left;
+                stack[top++] = right;
+                stack[top++] = merged;
+            }
+        };
     }
 }
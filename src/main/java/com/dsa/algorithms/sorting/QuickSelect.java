@@ -0,0 +1,260 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+// Selection without a full sort:
+//   select / median  - introselect: quickselect on QuickSort's pivot choice and three-way
+//                      partition, switching to median-of-medians pivots for good as soon as
+//                      a partition leaves more than 3/4 of its range. Every sampled-pivot
+//                      partition before that shrinks the range geometrically and
+//                      median-of-medians is linear, so the worst case is O(n)
+//   partialSort      - the k smallest elements, sorted, in arr[0, k) via a bounded max-heap: O(n log k)
+//   topK             - the same over a stream, holding only k values
+// The *WithTrace variants record the same work as steps for the visualizers.
+public class QuickSelect {
+
+    // Rearranges arr so arr[k] holds the k-th smallest value (0-based), with nothing
+    // larger before it and nothing smaller after it; returns that value
+    public int select(int[] arr, int k) {
+        checkIndex(arr, k);
+        selectRange(arr, 0, arr.length - 1, k, null);
+        return arr[k];
+    }
+
+    // Captures the initial array, each partition and the final arrangement
+    public SortTrace selectWithTrace(int[] arr, int k) {
+        checkIndex(arr, k);
+        SortTrace trace = new SortTrace(arr);
+        trace.snapshot("Start");
+        selectRange(arr, 0, arr.length - 1, k, trace);
+        trace.snapshot("Selected arr[" + k + "] = " + arr[k]);
+        return trace;
+    }
+
+    // Lower median
+    public int median(int[] arr) {
+        if (arr == null || arr.length == 0) throw new IllegalArgumentException("array must not be empty");
+        return select(arr, (arr.length - 1) / 2);
+    }
+
+    // Moves the k smallest values, in ascending order, into arr[0, k); the rest of the
+    // array is left in unspecified order. Needs no extra memory.
+    public int[] partialSort(int[] arr, int k) {
+        checkCount(arr, k);
+        partialSort(arr, k, null);
+        return arr;
+    }
+
+    public SortTrace partialSortWithTrace(int[] arr, int k) {
+        checkCount(arr, k);
+        SortTrace trace = new SortTrace(arr);
+        trace.snapshot("Start");
+        partialSort(arr, k, trace);
+        return trace;
+    }
+
+    // The k smallest values of the stream in ascending order (fewer if the stream is shorter)
+    public static int[] topK(IntStream values, int k) {
+        if (values == null) throw new IllegalArgumentException("stream must not be null");
+        return topK(values.iterator(), k);
+    }
+
+    public static int[] topK(PrimitiveIterator.OfInt values, int k) {
+        if (values == null) throw new IllegalArgumentException("iterator must not be null");
+        if (k < 0) throw new IllegalArgumentException("k must not be negative");
+        BoundedMaxHeap heap = new BoundedMaxHeap(new int[k], null);
+        while (values.hasNext()) heap.offer(values.nextInt());
+        heap.sortAscending();
+        return Arrays.copyOf(heap.arr, heap.size);
+    }
+
+    // Traces the k-slot heap buffer: one step per value that enters the heap and one per
+    // extraction. Slots not yet filled read as 0; the last step holds the result in its first slots.
+    public static SortTrace topKWithTrace(PrimitiveIterator.OfInt values, int k) {
+        if (values == null) throw new IllegalArgumentException("iterator must not be null");
+        if (k < 0) throw new IllegalArgumentException("k must not be negative");
+        int[] buffer = new int[k];
+        SortTrace trace = new SortTrace(buffer);
+        trace.snapshot("Start");
+        BoundedMaxHeap heap = new BoundedMaxHeap(buffer, trace);
+        while (values.hasNext()) {
+            int value = values.nextInt();
+            if (heap.offer(value)) trace.snapshot("Kept " + value);
+        }
+        heap.sortAscending();
+        return trace;
+    }
+
+    private static void checkIndex(int[] arr, int k) {
+        if (arr == null) throw new IllegalArgumentException("array must not be null");
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k must be in [0, " + arr.length + "), got " + k);
+        }
+    }
+
+    private static void checkCount(int[] arr, int k) {
+        if (arr == null) throw new IllegalArgumentException("array must not be null");
+        if (k < 0 || k > arr.length) {
+            throw new IllegalArgumentException("k must be in [0, " + arr.length + "], got " + k);
+        }
+    }
+
+    // Narrows [low, high] around k until arr[k] is final
+    static void selectRange(int[] arr, int low, int high, int k, SortTrace trace) {
+        selectRange(arr, low, high, k, false, trace);
+    }
+
+    // guaranteed: use median-of-medians pivots from the start instead of after a poor partition
+    static void selectRange(int[] arr, int low, int high, int k, boolean guaranteed, SortTrace trace) {
+        while (high > low) {
+            int size = high - low + 1;
+            if (size <= QuickSort.INSERTION_SORT_THRESHOLD) {
+                insertionSort(arr, low, high, trace);
+                return;
+            }
+            int pivotIndex = guaranteed
+                    ? medianOfMedians(arr, low, high, trace)
+                    : QuickSort.choosePivot(arr, low, high);
+            int pivot = arr[pivotIndex];
+
+            long bounds = QuickSort.threeWayPartition(arr, low, high, pivot, trace, false, null);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+            if (trace != null) trace.snapshot("Partition [" + low + ", " + high + "] around " + pivot);
+
+            if (k < lt) high = lt - 1;
+            else if (k > gt) low = gt + 1;
+            else return;
+            if (high - low + 1 > size - size / 4) guaranteed = true;
+        }
+    }
+
+    // Sorts groups of five, gathers their medians at the front of the range and selects the
+    // median of those; the result is guaranteed to have at least ~30% of the range on each side
+    private static int medianOfMedians(int[] arr, int low, int high, SortTrace trace) {
+        int groups = 0;
+        for (int start = low; start <= high; start += 5) {
+            int end = Math.min(start + 4, high);
+            insertionSort(arr, start, end, trace);
+            swap(arr, low + groups++, start + (end - start) / 2, trace);
+        }
+        int mid = low + (groups - 1) / 2;
+        selectRange(arr, low, low + groups - 1, mid, trace);
+        return mid;
+    }
+
+    private static void insertionSort(int[] arr, int low, int high, SortTrace trace) {
+        if (trace == null) {
+            InsertionSort.sortRange(arr, low, high + 1, null);
+            return;
+        }
+        // Adjacent swaps so each traced move is a single exchange
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && arr[j - 1] > arr[j]; j--) {
+                trace.swap(j - 1, j);
+            }
+        }
+    }
+
+    private static void partialSort(int[] arr, int k, SortTrace trace) {
+        if (k == 0) return;
+        BoundedMaxHeap heap = new BoundedMaxHeap(arr, trace);
+        heap.heapify(k);
+        if (trace != null) trace.snapshot("Heap of first " + k);
+        // Anything below the heap's max replaces it; the evicted max moves to the scanned slot
+        for (int i = k; i < arr.length; i++) {
+            int value = arr[i];
+            if (value < arr[0]) {
+                heap.swap(0, i);
+                heap.siftDown(0);
+                if (trace != null) trace.snapshot("Kept " + value + " from index " + i);
+            }
+        }
+        heap.sortAscending();
+    }
+
+    // Max-heap over arr[0, size), capacity arr.length; writes go through the trace when present
+    private static final class BoundedMaxHeap {
+        final int[] arr;
+        final SortTrace trace;
+        int size = 0;
+
+        BoundedMaxHeap(int[] arr, SortTrace trace) {
+            this.arr = arr;
+            this.trace = trace;
+        }
+
+        void heapify(int n) {
+            size = n;
+            for (int i = n / 2 - 1; i >= 0; i--) siftDown(i);
+        }
+
+        // Adds value if there is room or it is below the current max; returns whether it was kept
+        boolean offer(int value) {
+            if (size < arr.length) {
+                put(size, value);
+                siftUp(size++);
+                return true;
+            }
+            if (size == 0 || value >= arr[0]) return false;
+            put(0, value);
+            siftDown(0);
+            return true;
+        }
+
+        // Repeatedly moves the max behind the shrinking heap, leaving arr[0, size) ascending
+        void sortAscending() {
+            int n = size;
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                size = end;
+                siftDown(0);
+                if (trace != null) trace.snapshot("Extracted " + arr[end]);
+            }
+            size = n;
+        }
+
+        void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (arr[parent] >= arr[i]) return;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        void siftDown(int i) {
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) return;
+                if (child + 1 < size && arr[child + 1] > arr[child]) child++;
+                if (arr[child] <= arr[i]) return;
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        void swap(int i, int j) {
+            QuickSelect.swap(arr, i, j, trace);
+        }
+
+        private void put(int index, int value) {
+            if (trace != null)
+                trace.set(index, value);
+            else
+                arr[index] = value;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j, SortTrace trace) {
+        if (i == j) return;
+        if (trace != null) {
+            trace.swap(i, j);
+        } else {
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+}
@@ -1,34 +1,125 @@
 package com.dsa.algorithms.sorting;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class QuickSort implements Sortable {
+    // CLASSIC: last-element pivot, recursion on both sides (the textbook version)
+    // INTROSORT: median-of-three / ninther pivot, three-way partitioning, recursion only
+    //            into the smaller side, heapsort past a depth limit, insertion sort for short runs
+    public enum Mode { CLASSIC, INTROSORT }
+
+    // Ranges this short are finished with insertion sort in INTROSORT mode
+    static final int INSERTION_SORT_THRESHOLD = 16;
+    // Ranges at least this long use Tukey's ninther instead of median-of-three
+    static final int NINTHER_THRESHOLD = 128;
+
+    private final Mode mode;
+
+    public QuickSort() {
+        this(Mode.CLASSIC);
+    }
+
+    public QuickSort(Mode mode) {
+        if (mode == null) throw new IllegalArgumentException("mode must not be null");
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
 
     @Override
     public int[] sort(int[] arr) {
         if (arr == null || arr.length < 2) return arr;
-        quicksort(arr, 0, arr.length - 1);
+        if (mode == Mode.INTROSORT) {
+            int[] scratch = Simd.ENABLED ? Simd.KERNELS.scratch(arr.length) : null;
+            introsort(arr, 0, arr.length - 1, depthLimit(arr.length), scratch, null);
+        } else {
+            quicksort(arr, 0, arr.length - 1, null);
+        }
         return arr;
     }
 
     @Override
-    public List<int[]> sortWithSteps(int[] arr) {
-        List<int[]> steps = new ArrayList<>();
-        if (arr == null || arr.length < 2) return steps;
-        quicksortWithSteps(arr, 0, arr.length - 1, steps);
-        return steps;
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        if (arr == null || arr.length < 2) return trace;
+        if (mode == Mode.INTROSORT) {
+            introsortWithSteps(arr, 0, arr.length - 1, depthLimit(arr.length), trace);
+        } else {
+            quicksortWithSteps(arr, 0, arr.length - 1, trace);
+        }
+        return trace;
+    }
+
+    // Counts the scalar algorithm of the current mode (the SIMD kernels are not instrumented)
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("QuickSort " + mode, arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr == null || arr.length < 2) return;
+            if (mode == Mode.INTROSORT)
+                introsort(arr, 0, arr.length - 1, depthLimit(arr.length), null, m);
+            else
+                quicksort(arr, 0, arr.length - 1, m);
+        }, true);
+    }
+
+    // Primitive overloads for long and double data always use the introsort strategy,
+    // whatever the mode: the classic pivot is only meant for the int visualizations.
+    public long[] sort(long[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        LongSorts.introsort(arr, 0, arr.length - 1, depthLimit(arr.length));
+        return arr;
+    }
+
+    // Same order as Arrays.sort(double[]): -0.0 before 0.0, NaNs last
+    public double[] sort(double[] arr) {
+        if (arr == null || arr.length < 2) return arr;
+        long[] keys = LongSorts.toKeys(arr);
+        LongSorts.introsort(keys, 0, keys.length - 1, depthLimit(keys.length));
+        LongSorts.fromKeys(keys, arr);
+        return arr;
+    }
+
+    // Sorts the elements between position and limit in place, e.g. in a direct or
+    // memory-mapped buffer, without copying them onto the heap
+    public LongBuffer sort(LongBuffer buffer) {
+        if (buffer == null || buffer.remaining() < 2) return buffer;
+        LongBuffer window = buffer.slice();
+        LongSorts.introsort(window, 0, window.limit() - 1, depthLimit(window.limit()));
+        return buffer;
+    }
+
+    // Order-preserving double <-> long mapping, for storing doubles off-heap as sortable longs
+    public static long toSortableLong(double value) {
+        return LongSorts.toSortableLong(value);
+    }
+
+    public static double fromSortableLong(long key) {
+        return LongSorts.fromSortableLong(key);
+    }
+
+    // 2 * floor(log2 n): past this many partitions a range falls back to heapsort
+    static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
     }
 
-    private void quicksort(int[] arr, int low, int high) {
+    // With m, every read, comparison and swap is counted there; the scalar loops below take m
+    // the same way and pass null from sort()
+    private void quicksort(int[] arr, int low, int high, SortMetrics m) {
         if (low < high) {
-            int pivotIndex = partition(arr, low, high);
-            quicksort(arr, low, pivotIndex - 1);
-            quicksort(arr, pivotIndex + 1, high);
+            int pivotIndex = partition(arr, low, high, m);
+            quicksort(arr, low, pivotIndex - 1, m);
+            quicksort(arr, pivotIndex + 1, high, m);
         }
     }
 
-    private int partition(int[] arr, int low, int high) {
+    private int partition(int[] arr, int low, int high, SortMetrics m) {
         int pivot = arr[high];
         int i = low - 1;
 
@@ -39,36 +130,444 @@ public class QuickSort implements Sortable {
             }
         }
         swap(arr, i + 1, high);
+        if (m != null) {
+            // One read and comparison per element, one swap per value <= pivot plus the pivot's
+            m.countReads(high - low + 1);
+            m.countComparisons(high - low);
+            m.countSwaps(i - low + 2);
+        }
         return i + 1;
     }
 
-    private void quicksortWithSteps(int[] arr, int low, int high, List<int[]> steps) {
+    private void quicksortWithSteps(int[] arr, int low, int high, SortTrace trace) {
         if (low < high) {
-            int pivotIndex = partitionWithSteps(arr, low, high, steps);
-            quicksortWithSteps(arr, low, pivotIndex - 1, steps);
-            quicksortWithSteps(arr, pivotIndex + 1, high, steps);
+            int pivotIndex = partitionWithSteps(arr, low, high, trace);
+            quicksortWithSteps(arr, low, pivotIndex - 1, trace);
+            quicksortWithSteps(arr, pivotIndex + 1, high, trace);
         }
     }
 
-    private int partitionWithSteps(int[] arr, int low, int high, List<int[]> steps) {
+    private int partitionWithSteps(int[] arr, int low, int high, SortTrace trace) {
         int pivot = arr[high];
         int i = low - 1;
 
         for (int j = low; j < high; j++) {
             if (arr[j] <= pivot) {
                 i++;
-                swap(arr, i, j);
-                steps.add(arr.clone());
+                if (i != j) trace.swap(i, j);
+                trace.snapshot();
             }
         }
-        swap(arr, i + 1, high);
-        steps.add(arr.clone());
+        if (i + 1 != high) trace.swap(i + 1, high);
+        trace.snapshot();
         return i + 1;
     }
 
-    private void swap(int[] arr, int i, int j) {
+    // With a scratch buffer (only ever passed when Simd.ENABLED) partitions run through the
+    // SIMD kernels and leaves of up to SortKernels.MAX_NETWORK elements through a sorting
+    // network; without one the sort is scalar and needs no memory beyond the array.
+    // m counts the scalar sort and is never passed together with a scratch buffer.
+    static void introsort(int[] arr, int low, int high, int depth, int[] scratch, SortMetrics m) {
+        int leaf = scratch != null ? SortKernels.MAX_NETWORK : INSERTION_SORT_THRESHOLD;
+        while (high - low + 1 > leaf) {
+            if (depth-- == 0) {
+                heapSort(arr, low, high, m);
+                return;
+            }
+            int pivot = arr[choosePivot(arr, low, high, m)];
+            if (m != null) m.countReads(1);
+
+            int lt, gt;
+            if (scratch != null) {
+                // Same three ranges as threeWayPartition from two stable vector passes:
+                // < pivot, then == pivot vs > pivot
+                lt = Simd.KERNELS.partition(arr, low, high + 1, pivot, false, scratch);
+                gt = Simd.KERNELS.partition(arr, lt, high + 1, pivot, true, scratch) - 1;
+            } else {
+                long bounds = threeWayPartition(arr, low, high, pivot, null, false, m);
+                lt = (int) (bounds >>> 32);
+                gt = (int) bounds;
+            }
+
+            // Recurse into the smaller side and loop on the larger one: stack depth stays O(log n)
+            if (lt - low < high - gt) {
+                introsort(arr, low, lt - 1, depth, scratch, m);
+                low = gt + 1;
+            } else {
+                introsort(arr, gt + 1, high, depth, scratch, m);
+                high = lt - 1;
+            }
+        }
+        if (scratch != null)
+            Simd.KERNELS.sortSmall(arr, low, high + 1, scratch);
+        else
+            InsertionSort.sortRange(arr, low, high + 1, m);
+    }
+
+    // Scalar introsort of [low, high] on pool: while a range is longer than threshold, both
+    // sides of its partition are sorted as separate tasks. In place, like introsort itself.
+    static void parallelIntrosort(int[] arr, int low, int high, ForkJoinPool pool, int threshold) {
+        pool.invoke(new IntrosortTask(arr, low, high, depthLimit(high - low + 1), threshold));
+    }
+
+    private static final class IntrosortTask extends RecursiveAction {
+        private final int[] arr;
+        private final int low, high, depth, threshold;
+
+        IntrosortTask(int[] arr, int low, int high, int depth, int threshold) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low + 1 <= threshold || depth == 0) {
+                introsort(arr, low, high, depth, null, null);
+                return;
+            }
+            long bounds = threeWayPartition(arr, low, high, arr[choosePivot(arr, low, high)], null, false, null);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+            invokeAll(new IntrosortTask(arr, low, lt - 1, depth - 1, threshold),
+                      new IntrosortTask(arr, gt + 1, high, depth - 1, threshold));
+        }
+    }
+
+    private void introsortWithSteps(int[] arr, int low, int high, int depth, SortTrace trace) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSortWithSteps(arr, low, high, trace);
+                return;
+            }
+            int pivot = arr[choosePivot(arr, low, high)];
+
+            long bounds = threeWayPartition(arr, low, high, pivot, trace, true, null);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+            trace.snapshot("Partition [" + low + ", " + high + "] around " + pivot);
+
+            if (lt - low < high - gt) {
+                introsortWithSteps(arr, low, lt - 1, depth, trace);
+                low = gt + 1;
+            } else {
+                introsortWithSteps(arr, gt + 1, high, depth, trace);
+                high = lt - 1;
+            }
+        }
+        // Insertion sort as adjacent swaps, so every step still moves exactly two bars
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && arr[j - 1] > arr[j]; j--) {
+                swapWithStep(j - 1, j, trace);
+            }
+        }
+    }
+
+    // Three-way (Dutch flag) partition of [low, high] around pivot, shared by introsort and
+    // QuickSelect: afterwards [low, lt) < pivot, [lt, gt] == pivot and (gt, high] > pivot.
+    // Returns lt in the high 32 bits and gt in the low 32. With a trace every swap goes through
+    // it, followed by a snapshot when snapshotSwaps is set; with m the work is counted there.
+    static long threeWayPartition(int[] arr, int low, int high, int pivot, SortTrace trace, boolean snapshotSwaps,
+                                  SortMetrics m) {
+        int lt = low, i = low, gt = high;
+        if (trace == null) {
+            while (i <= gt) {
+                if (arr[i] < pivot) swap(arr, lt++, i++);
+                else if (arr[i] > pivot) swap(arr, i, gt--);
+                else i++;
+            }
+            if (m != null) {
+                // Every pass read one value and moved i up or gt down; all but the < pivot ones
+                // took a second comparison, and the < and > ones a swap
+                int passes = (i - low) + (high - gt);
+                m.countReads(passes);
+                m.countComparisons(2 * passes - (lt - low));
+                m.countSwaps((lt - low) + (high - gt));
+            }
+        } else {
+            while (i <= gt) {
+                if (arr[i] < pivot) swap(lt++, i++, trace, snapshotSwaps);
+                else if (arr[i] > pivot) swap(i, gt--, trace, snapshotSwaps);
+                else i++;
+            }
+        }
+        return (long) lt << 32 | gt;
+    }
+
+    // Index of the median of three samples, or of three medians-of-three (ninther) for long ranges
+    static int choosePivot(int[] arr, int low, int high) {
+        return choosePivot(arr, low, high, null);
+    }
+
+    private static int choosePivot(int[] arr, int low, int high, SortMetrics m) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 >= NINTHER_THRESHOLD) {
+            int step = (high - low + 1) / 8;
+            int a = medianOfThree(arr, low, low + step, low + 2 * step, m);
+            int b = medianOfThree(arr, mid - step, mid, mid + step, m);
+            int c = medianOfThree(arr, high - 2 * step, high - step, high, m);
+            return medianOfThree(arr, a, b, c, m);
+        }
+        return medianOfThree(arr, low, mid, high, m);
+    }
+
+    private static int medianOfThree(int[] arr, int a, int b, int c, SortMetrics m) {
+        int va = arr[a], vb = arr[b], vc = arr[c];
+        if (m != null) m.countReads(3);
+        if (less(va, vb, m)) {
+            if (less(vb, vc, m)) return b;
+            return less(va, vc, m) ? c : a;
+        }
+        if (less(va, vc, m)) return a;
+        return less(vb, vc, m) ? c : b;
+    }
+
+    static void heapSort(int[] arr, int low, int high, SortMetrics m) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(arr, low, i, n, m);
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            if (m != null) m.countSwaps(1);
+            siftDown(arr, low, 0, end, m);
+        }
+    }
+
+    private static void siftDown(int[] arr, int base, int i, int n, SortMetrics m) {
+        int value = arr[base + i];
+        if (m != null) m.countReads(1);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            int childValue = arr[base + child];
+            if (m != null) m.countReads(1);
+            if (child + 1 < n) {
+                int right = arr[base + child + 1];
+                if (m != null) m.countReads(1);
+                if (less(childValue, right, m)) {
+                    child++;
+                    childValue = right;
+                }
+            }
+            if (!less(value, childValue, m)) break;
+            arr[base + i] = childValue;
+            if (m != null) m.countWrites(1);
+            i = child;
+        }
+        arr[base + i] = value;
+        if (m != null) m.countWrites(1);
+    }
+
+    private static boolean less(int a, int b, SortMetrics m) {
+        if (m != null) m.countComparisons(1);
+        return a < b;
+    }
+
+    private void heapSortWithSteps(int[] arr, int low, int high, SortTrace trace) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDownWithSteps(arr, low, i, n, trace);
+        for (int end = n - 1; end > 0; end--) {
+            swapWithStep(low, low + end, trace);
+            siftDownWithSteps(arr, low, 0, end, trace);
+        }
+    }
+
+    private void siftDownWithSteps(int[] arr, int base, int i, int n, SortTrace trace) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) return;
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) child++;
+            if (arr[base + child] <= arr[base + i]) return;
+            swapWithStep(base + i, base + child, trace);
+            i = child;
+        }
+    }
+
+    private void swapWithStep(int i, int j, SortTrace trace) {
+        swap(i, j, trace, true);
+    }
+
+    private static void swap(int i, int j, SortTrace trace, boolean snapshot) {
+        if (i != j) trace.swap(i, j);
+        if (snapshot) trace.snapshot();
+    }
+
+    private static void swap(int[] arr, int i, int j) {
         int temp = arr[i];
         arr[i] = arr[j];
         arr[j] = temp;
     }
+
+    // Explicit-stack version of quicksortWithSteps (or introsortWithSteps in INTROSORT mode):
+    // pauses after every swap and, for introsort, after every partition
+    @Override
+    public Iterator<int[]> stepIterator(int[] arr) {
+        if (mode == Mode.INTROSORT) return new IntrosortSteps(arr);
+        return new SortStepIterator(arr) {
+            private int[] stack = new int[16];
+            private int top = 0;
+            private boolean partitioning = false;
+            private int low, high, pivot, i, j;
+
+            {
+                if (arr != null && arr.length >= 2) push(0, arr.length - 1);
+            }
+
+            @Override
+            protected boolean advance() {
+                while (true) {
+                    if (partitioning) {
+                        while (j < high) {
+                            if (arr[j++] <= pivot) {
+                                i++;
+                                swap(i, j - 1);
+                                return true;
+                            }
+                        }
+                        swap(i + 1, high);
+                        partitioning = false;
+                        int pivotIndex = i + 1;
+                        push(pivotIndex + 1, high); // right side runs after the left
+                        push(low, pivotIndex - 1);
+                        return true;
+                    }
+                    if (top == 0) return false;
+
+                    high = stack[--top];
+                    low = stack[--top];
+                    if (low < high) {
+                        pivot = arr[high];
+                        i = low - 1;
+                        j = low;
+                        partitioning = true;
+                    }
+                }
+            }
+
+            private void push(int lo, int hi) {
+                if (top + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+                stack[top++] = lo;
+                stack[top++] = hi;
+            }
+        };
+    }
+
+    // introsortWithSteps as a state machine. Ranges wait on a stack of (low, high, depth)
+    // frames, the smaller side of each partition on top, so they run in the recursive order;
+    // each state keeps the loop indices of the phase it pauses in.
+    private static final class IntrosortSteps extends SortStepIterator {
+        private static final int NEXT_RANGE = 0, PARTITION = 1, INSERTION = 2, HEAP = 3;
+
+        private int[] stack = new int[48];
+        private int top = 0;
+        private int state = NEXT_RANGE;
+        private int low, high, depth;
+        private int pivot, lt, i, gt;       // PARTITION
+        private int j;                      // INSERTION: i is the element being inserted
+        private int build, end, sift, heapSize;
+        private boolean sifting;            // HEAP: build counts down the heapify roots
+
+        IntrosortSteps(int[] arr) {
+            super(arr);
+            if (arr != null && arr.length >= 2) push(0, arr.length - 1, depthLimit(arr.length));
+        }
+
+        @Override
+        protected boolean advance() {
+            while (true) {
+                switch (state) {
+                    case PARTITION:
+                        while (i <= gt) {
+                            if (arr[i] < pivot) {
+                                swap(lt++, i++);
+                                return true;
+                            } else if (arr[i] > pivot) {
+                                swap(i, gt--);
+                                return true;
+                            }
+                            i++;
+                        }
+                        if (lt - low < high - gt) {
+                            push(gt + 1, high, depth);
+                            push(low, lt - 1, depth);
+                        } else {
+                            push(low, lt - 1, depth);
+                            push(gt + 1, high, depth);
+                        }
+                        state = NEXT_RANGE;
+                        return true;        // the labelled partition step
+                    case INSERTION:
+                        while (i <= high) {
+                            if (j > low && arr[j - 1] > arr[j]) {
+                                swap(j - 1, j);
+                                j--;
+                                return true;
+                            }
+                            j = ++i;
+                        }
+                        state = NEXT_RANGE;
+                        break;
+                    case HEAP:
+                        if (sifting) {
+                            if (siftStep()) return true;
+                            sifting = false;
+                        }
+                        if (build >= 0) {
+                            startSift(build--, high - low + 1);
+                        } else if (end > 0) {
+                            swap(low, low + end);
+                            startSift(0, end--);
+                            return true;
+                        } else {
+                            state = NEXT_RANGE;
+                        }
+                        break;
+                    default:
+                        if (top == 0) return false;
+                        depth = stack[--top];
+                        high = stack[--top];
+                        low = stack[--top];
+                        if (high - low + 1 <= INSERTION_SORT_THRESHOLD) {
+                            i = low + 1;
+                            j = i;
+                            state = INSERTION;
+                        } else if (depth-- == 0) {
+                            build = (high - low + 1) / 2 - 1;
+                            end = high - low;
+                            sifting = false;
+                            state = HEAP;
+                        } else {
+                            pivot = arr[choosePivot(arr, low, high)];
+                            lt = low;
+                            i = low;
+                            gt = high;
+                            state = PARTITION;
+                        }
+                }
+            }
+        }
+
+        private void startSift(int root, int size) {
+            sift = root;
+            heapSize = size;
+            sifting = true;
+        }
+
+        // One swap of siftDownWithSteps; false once the value has settled
+        private boolean siftStep() {
+            int child = 2 * sift + 1;
+            if (child >= heapSize) return false;
+            if (child + 1 < heapSize && arr[low + child + 1] > arr[low + child]) child++;
+            if (arr[low + child] <= arr[low + sift]) return false;
+            swap(low + sift, low + child);
+            sift = child;
+            return true;
+        }
+
+        private void push(int lo, int hi, int d) {
+            if (top + 3 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+            stack[top++] = lo;
+            stack[top++] = hi;
+            stack[top++] = d;
+        }
+    }
 }
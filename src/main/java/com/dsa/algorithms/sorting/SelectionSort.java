@@ -1,29 +1,48 @@
 package com.dsa.algorithms.sorting;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 
 public class SelectionSort implements Sortable {
 
     @Override
     public int[] sort(int[] arr) {
+        if (arr != null) sort(arr, null);
+        return arr;
+    }
+
+    // With m, every read, comparison and swap is counted there; the SIMD minimum search is
+    // only taken without one, since it is not instrumented
+    private static void sort(int[] arr, SortMetrics m) {
         int n = arr.length;
         for (int i = 0; i < n - 1; i++) {
             int minIdx = i;
-            for (int j = i + 1; j < n; j++) {
-                if (arr[j] < arr[minIdx]) minIdx = j;
+            if (Simd.ENABLED && m == null) {
+                minIdx = Simd.KERNELS.indexOfMin(arr, i, n);
+            } else {
+                int min = arr[i];
+                for (int j = i + 1; j < n; j++) {
+                    int value = arr[j];
+                    if (value < min) {
+                        minIdx = j;
+                        min = value;
+                    }
+                }
+                if (m != null) {
+                    m.countReads(n - i);
+                    m.countComparisons(n - i - 1);
+                }
             }
             int temp = arr[minIdx];
             arr[minIdx] = arr[i];
             arr[i] = temp;
+            if (m != null) m.countSwaps(1);
         }
-        return arr;
     }
 
     @Override
-    public List<int[]> sortWithSteps(int[] arr) {
-        List<int[]> steps = new ArrayList<>();
-        steps.add(arr.clone()); // initial state
+    public SortTrace sortWithTrace(int[] arr) {
+        SortTrace trace = new SortTrace(arr);
+        trace.snapshot(); // initial state
 
         int n = arr.length;
         for (int i = 0; i < n - 1; i++) {
@@ -33,13 +52,44 @@ public class SelectionSort implements Sortable {
             }
 
             // Swap
-            int temp = arr[minIdx];
-            arr[minIdx] = arr[i];
-            arr[i] = temp;
+            if (minIdx != i) trace.swap(minIdx, i);
 
-            steps.add(arr.clone()); // capture state after each swap
+            trace.snapshot(); // capture state after each swap
         }
-        return steps;
+        return trace;
+    }
+
+    @Override
+    public SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics m = new SortMetrics("SelectionSort", arr == null ? 0 : arr.length);
+        return m.time(() -> {
+            if (arr != null) sort(arr, m);
+        }, true);
+    }
+
+    @Override
+    public Iterator<int[]> stepIterator(int[] arr) {
+        return new SortStepIterator(arr) {
+            private int i = -1;
+
+            @Override
+            protected boolean advance() {
+                if (i == -1) {
+                    i = 0;
+                    return true; // initial state
+                }
+                int n = arr.length;
+                if (i >= n - 1) return false;
+
+                int minIdx = i;
+                for (int j = i + 1; j < n; j++) {
+                    if (arr[j] < arr[minIdx]) minIdx = j;
+                }
+                swap(minIdx, i);
+                i++;
+                return true;
+            }
+        };
     }
 }
 
@@ -47,5 +97,6 @@ public class SelectionSort implements Sortable {
 Sortable algo = new SelectionSort();
 int[] sorted = algo.sort(arr);              // final result
 List<int[]> steps = algo.sortWithSteps(arr); // for visualization
+SortTrace trace = algo.sortWithTrace(arr);   // delta-encoded, rebuild with trace.getStep(i)
 
- */
\ No newline at end of file
+ */
\ No newline at end of file
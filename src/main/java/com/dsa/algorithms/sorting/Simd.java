@@ -0,0 +1,28 @@
+package com.dsa.algorithms.sorting;
+
+// Runtime switch for the Vector API kernels behind SortKernels.
+// SIMD paths are used only when the build included them (mvn -P simd), the JVM runs with
+// -Ddsa.simd=true and the jdk.incubator.vector module is resolved (--add-modules
+// jdk.incubator.vector). Otherwise VectorKernels is never loaded and every sort stays on its
+// scalar code; ENABLED is a static final, so the JIT folds the disabled branches away.
+final class Simd {
+    static final String PROPERTY = "dsa.simd";
+    static final SortKernels KERNELS = load();
+    static final boolean ENABLED = KERNELS != null;
+
+    private Simd() {
+    }
+
+    private static SortKernels load() {
+        if (!Boolean.getBoolean(PROPERTY)) return null;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            SortKernels kernels = (SortKernels) Class.forName("com.dsa.algorithms.sorting.VectorKernels")
+                    .getDeclaredConstructor().newInstance();
+            // Narrower than 128-bit vectors cannot beat the scalar loops
+            return kernels.lanes() >= 4 ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dsa.algorithms.sorting;
+
+// SIMD inner loops the int sorts hand their hot loops to when Simd.ENABLED. The Vector API
+// implementation, VectorKernels, lives in src/simd/java and is compiled only with -P simd, so
+// the default build never resolves jdk.incubator.vector. Every kernel produces exactly the
+// same array as the scalar loop it replaces.
+interface SortKernels {
+    // Largest block sorted by sortSmall instead of being partitioned further
+    int MAX_NETWORK = 64;
+
+    // Ints per vector
+    int lanes();
+
+    // Scratch buffer large enough for partition and sortSmall on n elements
+    int[] scratch(int n);
+
+    // Stable two-way partition of [lo, hi): values < pivot (<= when inclusive) move to the
+    // front in their original order, the rest follow. Returns the first index of the rest.
+    int partition(int[] a, int lo, int hi, int pivot, boolean inclusive, int[] scratch);
+
+    // Sorts [lo, hi), at most MAX_NETWORK long, with a sorting network
+    void sortSmall(int[] a, int lo, int hi, int[] buf);
+
+    void insertionSort(int[] a, int lo, int hi);
+
+    // Index of the first minimum in [from, to)
+    int indexOfMin(int[] a, int from, int to);
+}
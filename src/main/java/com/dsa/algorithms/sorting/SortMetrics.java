@@ -0,0 +1,123 @@
+package com.dsa.algorithms.sorting;
+
+// Exact operation counts for one sort run, filled in by Sortable.sortWithMetrics.
+// Counting algorithms run the same loops as sort(), with a SortMetrics passed in where sort()
+// passes null; the loops report each array access through the count methods below, so the
+// totals are what the algorithm actually did.
+//
+// Conventions: a swap is counted as one swap plus its two reads and two writes;
+// comparisons count element-vs-element (or element-vs-pivot) tests only, not loop bounds;
+// reads and writes are of element values, in the array or a scratch copy of it (histogram
+// and offset counters of the distribution sorts are not elements); auxBytes is the size of
+// every scratch array the algorithm allocates, histograms included.
+//
+// Parallel sorts give every task its own SortMetrics() and add() it to its parent's at the
+// join, so no counter is shared between threads.
+public class SortMetrics {
+    private final String algorithm;
+    private final int size;
+    private boolean counted = false;
+
+    long comparisons;
+    long swaps;
+    long reads;
+    long writes;
+    long auxBytes;
+    private long elapsedNanos;
+
+    public SortMetrics(String algorithm, int size) {
+        this.algorithm = algorithm;
+        this.size = size;
+    }
+
+    // Counter of one task of a parallel sort
+    SortMetrics() {
+        this(null, 0);
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    // False when the algorithm has no counting version and only the wall time was measured
+    public boolean isCounted() {
+        return counted;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    public long getAuxBytes() {
+        return auxBytes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // Runs the (counting or plain) sort and records its wall time
+    SortMetrics time(Runnable sort, boolean counting) {
+        long start = System.nanoTime();
+        sort.run();
+        elapsedNanos = System.nanoTime() - start;
+        counted = counting;
+        return this;
+    }
+
+    void countReads(int count) {
+        reads += count;
+    }
+
+    void countWrites(int count) {
+        writes += count;
+    }
+
+    void countComparisons(int count) {
+        comparisons += count;
+    }
+
+    // Each swap also counts its two reads and two writes
+    void countSwaps(int count) {
+        swaps += count;
+        reads += 2L * count;
+        writes += 2L * count;
+    }
+
+    // A scratch int[] of the given length
+    void countAllocation(int length) {
+        auxBytes += (long) length * Integer.BYTES;
+    }
+
+    // Adds the counts of a finished task
+    void add(SortMetrics task) {
+        comparisons += task.comparisons;
+        swaps += task.swaps;
+        reads += task.reads;
+        writes += task.writes;
+        auxBytes += task.auxBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s n=%d: comparisons=%d swaps=%d reads=%d writes=%d auxBytes=%d time=%.3f ms%s",
+                algorithm, size, comparisons, swaps, reads, writes, auxBytes, elapsedNanos / 1e6,
+                counted ? "" : " (not counted)");
+    }
+}
@@ -0,0 +1,55 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Pull-based step source for a sort that runs incrementally.
+// Each call to advance() moves the sort forward to its next step and nothing more,
+// so a visualizer can start playing immediately and only the live array is retained.
+public abstract class SortStepIterator implements Iterator<int[]> {
+    protected final int[] arr;
+    private boolean ready = false;
+    private boolean finished = false;
+    private int stepIndex = -1;
+
+    protected SortStepIterator(int[] arr) {
+        this.arr = arr;
+    }
+
+    // Runs the sort up to the next step; returns false once the sort is finished
+    protected abstract boolean advance();
+
+    @Override
+    public boolean hasNext() {
+        if (!ready && !finished) {
+            ready = advance();
+            finished = !ready;
+        }
+        return ready;
+    }
+
+    // Returns a copy of the array at the next step
+    @Override
+    public int[] next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ready = false;
+        stepIndex++;
+        return arr.clone();
+    }
+
+    // Index of the step last returned by next(), -1 before the first call
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    // Live, read-only view of the array being sorted (no copy)
+    public int[] current() {
+        return arr;
+    }
+
+    protected void swap(int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,173 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Delta-encoded record of a sort run.
+// Instead of cloning the whole array for every step, the trace keeps the initial
+// array, every write as an (index, old value, new value) event, and the event
+// count at which each step was captured. Full keyframe snapshots are taken once
+// at least array.length events have accumulated, so keyframes never cost more
+// than the events themselves and rebuilding any step replays at most ~n events.
+public class SortTrace {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int[] array;          // live array being sorted
+    private final int length;
+
+    private int[] eventIndex = new int[INITIAL_CAPACITY];
+    private int[] eventOld = new int[INITIAL_CAPACITY];
+    private int[] eventNew = new int[INITIAL_CAPACITY];
+    private int eventCount = 0;
+
+    private int[] stepEnd = new int[INITIAL_CAPACITY]; // event count at each captured step
+    private int stepCount = 0;
+
+    private List<String> labels;        // optional step labels, created on first use
+
+    private final List<int[]> keyframes = new ArrayList<>();
+    private int[] keyframeEvent = new int[INITIAL_CAPACITY]; // event count each keyframe reflects
+    private int lastKeyframeEvent = 0;
+
+    public SortTrace(int[] array) {
+        this.array = array;
+        this.length = array == null ? 0 : array.length;
+        keyframes.add(array == null ? new int[0] : array.clone());
+        keyframeEvent[0] = 0;
+    }
+
+    // Writes value at index in the live array and records the event
+    public void set(int index, int value) {
+        int old = array[index];
+        array[index] = value;
+        if (eventCount == eventIndex.length) {
+            int capacity = eventCount * 2;
+            eventIndex = Arrays.copyOf(eventIndex, capacity);
+            eventOld = Arrays.copyOf(eventOld, capacity);
+            eventNew = Arrays.copyOf(eventNew, capacity);
+        }
+        eventIndex[eventCount] = index;
+        eventOld[eventCount] = old;
+        eventNew[eventCount] = value;
+        eventCount++;
+    }
+
+    // Swaps two positions in the live array, recorded as two write events
+    public void swap(int i, int j) {
+        int temp = array[i];
+        set(i, array[j]);
+        set(j, temp);
+    }
+
+    // Captures the current state of the live array as the next step
+    public void snapshot() {
+        if (stepCount == stepEnd.length) {
+            stepEnd = Arrays.copyOf(stepEnd, stepCount * 2);
+        }
+        stepEnd[stepCount++] = eventCount;
+
+        if (eventCount - lastKeyframeEvent >= Math.max(length, 1)) {
+            int k = keyframes.size();
+            if (k == keyframeEvent.length) {
+                keyframeEvent = Arrays.copyOf(keyframeEvent, k * 2);
+            }
+            keyframes.add(array.clone());
+            keyframeEvent[k] = eventCount;
+            lastKeyframeEvent = eventCount;
+        }
+    }
+
+    // Captures the next step and names the event that produced it (e.g. "Merge [0, 8)")
+    public void snapshot(String label) {
+        if (labels == null) labels = new ArrayList<>();
+        while (labels.size() < stepCount) labels.add(null);
+        labels.add(label);
+        snapshot();
+    }
+
+    // Label given to the step, or null if it was captured without one
+    public String getLabel(int step) {
+        if (step < 0 || step >= stepCount) {
+            throw new IndexOutOfBoundsException("Step " + step + " out of range [0, " + stepCount + ")");
+        }
+        return labels != null && step < labels.size() ? labels.get(step) : null;
+    }
+
+    // Number of captured steps
+    public int size() {
+        return stepCount;
+    }
+
+    // Rebuilds the array as it was at the given step
+    public int[] getStep(int step) {
+        if (step < 0 || step >= stepCount) {
+            throw new IndexOutOfBoundsException("Step " + step + " out of range [0, " + stepCount + ")");
+        }
+        int target = stepEnd[step];
+        int k = findKeyframe(target);
+        int[] state = keyframes.get(k).clone();
+        for (int e = keyframeEvent[k]; e < target; e++) {
+            state[eventIndex[e]] = eventNew[e];
+        }
+        return state;
+    }
+
+    // Events recorded between the previous step and this one are [getFirstEvent(step), getLastEvent(step))
+    public int getFirstEvent(int step) {
+        return step == 0 ? 0 : stepEnd[step - 1];
+    }
+
+    public int getLastEvent(int step) {
+        return stepEnd[step];
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getEventIndex(int event) {
+        return eventIndex[event];
+    }
+
+    public int getOldValue(int event) {
+        return eventOld[event];
+    }
+
+    public int getNewValue(int event) {
+        return eventNew[event];
+    }
+
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    // Read-only List<int[]> view; each get() rebuilds the requested step
+    public List<int[]> asList() {
+        return new AbstractList<int[]>() {
+            @Override
+            public int[] get(int index) {
+                return getStep(index);
+            }
+
+            @Override
+            public int size() {
+                return stepCount;
+            }
+        };
+    }
+
+    // Last keyframe taken at or before the target event count
+    private int findKeyframe(int target) {
+        int low = 0, high = keyframes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframeEvent[mid] <= target)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+}
@@ -1,11 +1,30 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Iterator;
 import java.util.List;
 
 public interface Sortable {
     // Returns the final sorted array
     int[] sort(int[] arr);
 
-    // Returns step-by-step states for visualization
-    List<int[]> sortWithSteps(int[] arr);
+    // Sorts arr and returns a delta-encoded trace of every step
+    SortTrace sortWithTrace(int[] arr);
+
+    // Returns step-by-step states for visualization (lazily rebuilt from the trace)
+    default List<int[]> sortWithSteps(int[] arr) {
+        return sortWithTrace(arr).asList();
+    }
+
+    // Streams the same steps as sortWithSteps, sorting arr in place one step per next()
+    // where the algorithm overrides it; this default replays sortWithSteps, so it sorts up front
+    default Iterator<int[]> stepIterator(int[] arr) {
+        return sortWithSteps(arr).iterator();
+    }
+
+    // Sorts arr and reports comparisons, swaps, reads, writes, scratch bytes and wall time.
+    // Algorithms without a counting version only report the time (isCounted() is false).
+    default SortMetrics sortWithMetrics(int[] arr) {
+        SortMetrics metrics = new SortMetrics(getClass().getSimpleName(), arr == null ? 0 : arr.length);
+        return metrics.time(() -> sort(arr), false);
+    }
 }
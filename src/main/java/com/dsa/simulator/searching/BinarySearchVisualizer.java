@@ -1,6 +1,10 @@
 package com.dsa.simulator.searching;
 
 import com.dsa.algorithms.searching.BinarySearch;
+import com.dsa.algorithms.searching.EytzingerIndex;
+import com.dsa.algorithms.searching.ExponentialSearch;
+import com.dsa.algorithms.searching.GallopingSearch;
+import com.dsa.algorithms.searching.InterpolationSearch;
 import com.dsa.algorithms.searching.Searchable;
 import javafx.animation.*;
 import javafx.application.Application;
@@ -24,7 +28,7 @@ public class BinarySearchVisualizer extends Application {
     private static final int SQUARE_SIZE = 50;
     private static final int SPACING = 10;
     
-    private final Searchable algo = new BinarySearch();
+    private Searchable algo = new BinarySearch();
     private int[] array = {11, 22, 34, 45, 56, 67, 78, 89, 90};
     private int[] originalArray = Arrays.copyOf(array, array.length);
     private int[] searchSteps;
@@ -52,6 +56,7 @@ public class BinarySearchVisualizer extends Application {
     private Button inputArrayBtn;
     private Slider speedSlider;
     private TextField targetInput;
+    private ComboBox<String> algorithmChoice;
     
     private SequentialTransition sequentialTransition;
     
@@ -138,6 +143,23 @@ public class BinarySearchVisualizer extends Application {
         targetInput.setStyle("-fx-control-inner-background: #555; -fx-text-fill: white;");
         
         targetControl.getChildren().addAll(targetInputLabel, targetInput);
+
+        // Algorithm choice: every option reports steps as positions in the sorted array
+        VBox algorithmControl = new VBox(5);
+        algorithmControl.setAlignment(Pos.CENTER);
+        Label algorithmLabel = createStyledLabel("Algorithm:");
+        algorithmLabel.setTextFill(Color.LIGHTGRAY);
+
+        algorithmChoice = new ComboBox<>();
+        algorithmChoice.getItems().addAll("Binary Search", "Eytzinger Index", "Interpolation Search",
+                "Exponential Search", "Galloping Search");
+        algorithmChoice.setValue("Binary Search");
+        algorithmChoice.setOnAction(e -> {
+            algo = createAlgorithm(algorithmChoice.getValue());
+            resetVisualization();
+        });
+
+        algorithmControl.getChildren().addAll(algorithmLabel, algorithmChoice);
         
         // Buttons
         startSearchBtn = createStyledButton("Start Search");
@@ -183,13 +205,32 @@ public class BinarySearchVisualizer extends Application {
         speedControl.getChildren().addAll(speedLabel, speedSlider);
         
         controlPanel.getChildren().addAll(
-            targetControl, startSearchBtn, nextStepBtn, resetBtn, 
+            targetControl, algorithmControl, startSearchBtn, nextStepBtn, resetBtn, 
             generateArrayBtn, inputArrayBtn, pauseBtn, resumeBtn, replayBtn, speedControl
         );
         
         return controlPanel;
     }
     
+    private Searchable createAlgorithm(String name) {
+        switch (name) {
+            case "Eytzinger Index": return new EytzingerIndex();
+            case "Interpolation Search": return new InterpolationSearch();
+            case "Exponential Search": return new ExponentialSearch();
+            case "Galloping Search": return new GallopingSearch();
+            default: return new BinarySearch();
+        }
+    }
+
+    // Steps of the chosen search over a sorted copy of the array. The Eytzinger index only
+    // probes in BFS order for the array it was built from, so it is rebuilt over the copy.
+    private int[] traceSearch() {
+        int[] sorted = Arrays.copyOf(array, array.length);
+        Searchable searcher = algo instanceof EytzingerIndex ? new EytzingerIndex(sorted) : algo;
+        searcher.search(sorted, targetValue);
+        return searcher.getSearchSteps();
+    }
+
     private Button createStyledButton(String text) {
         Button button = new Button(text);
         button.setStyle("-fx-background-color: #5c6bc0; -fx-text-fill: white; -fx-font-weight: bold;");
@@ -263,8 +304,7 @@ public class BinarySearchVisualizer extends Application {
         targetInput.setDisable(true);
 
         // Perform search to get steps
-        algo.search(Arrays.copyOf(array, array.length), targetValue);
-        searchSteps = algo.getSearchSteps();
+        searchSteps = traceSearch();
         comparisons = 0;
         currentStep = 0;
 
@@ -366,8 +406,7 @@ public class BinarySearchVisualizer extends Application {
         }
 
         if (searchSteps == null) {
-            algo.search(Arrays.copyOf(array, array.length), targetValue);
-            searchSteps = algo.getSearchSteps();
+            searchSteps = traceSearch();
             currentStep = 0;
             comparisons = 0;
             foundIndex = -1;
@@ -565,4 +604,4 @@ public class BinarySearchVisualizer extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
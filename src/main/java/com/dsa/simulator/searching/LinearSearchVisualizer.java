@@ -2,6 +2,7 @@ package com.dsa.simulator.searching;
 
 import com.dsa.algorithms.searching.LinearSearch;
 import com.dsa.algorithms.searching.Searchable;
+import com.dsa.algorithms.searching.VectorLinearSearch;
 import javafx.animation.*;
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -24,7 +25,7 @@ public class LinearSearchVisualizer extends Application {
     private static final int SQUARE_SIZE = 50;
     private static final int SPACING = 10;
     
-    private final Searchable algo = new LinearSearch();
+    private Searchable algo = new LinearSearch();
     private int[] array = {64, 34, 25, 12, 22, 11, 90};
     private int[] originalArray = Arrays.copyOf(array, array.length);
     private int[] searchSteps;
@@ -52,6 +53,7 @@ public class LinearSearchVisualizer extends Application {
     private Button inputArrayBtn;
     private Slider speedSlider;
     private TextField targetInput;
+    private ComboBox<String> algorithmChoice;
     
     private SequentialTransition sequentialTransition;
     
@@ -138,6 +140,24 @@ public class LinearSearchVisualizer extends Application {
         targetInput.setStyle("-fx-control-inner-background: #555; -fx-text-fill: white;");
         
         targetControl.getChildren().addAll(targetInputLabel, targetInput);
+
+        // Algorithm choice: the vectorized scan records one step per block of lanes
+        VBox algorithmControl = new VBox(5);
+        algorithmControl.setAlignment(Pos.CENTER);
+        Label algorithmLabel = createStyledLabel("Algorithm:");
+        algorithmLabel.setTextFill(Color.LIGHTGRAY);
+
+        algorithmChoice = new ComboBox<>();
+        algorithmChoice.getItems().addAll("Linear Search", "Vectorized Linear Search");
+        algorithmChoice.setValue("Linear Search");
+        algorithmChoice.setOnAction(e -> {
+            algo = "Vectorized Linear Search".equals(algorithmChoice.getValue())
+                    ? new VectorLinearSearch()
+                    : new LinearSearch();
+            resetVisualization();
+        });
+
+        algorithmControl.getChildren().addAll(algorithmLabel, algorithmChoice);
         
         // Buttons
         startSearchBtn = createStyledButton("Start Search");
@@ -183,7 +203,7 @@ public class LinearSearchVisualizer extends Application {
         speedControl.getChildren().addAll(speedLabel, speedSlider);
         
         controlPanel.getChildren().addAll(
-            targetControl, startSearchBtn, nextStepBtn, resetBtn, 
+            targetControl, algorithmControl, startSearchBtn, nextStepBtn, resetBtn, 
             generateArrayBtn, inputArrayBtn, pauseBtn, resumeBtn, replayBtn, speedControl
         );
         
@@ -562,4 +582,4 @@ public class LinearSearchVisualizer extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
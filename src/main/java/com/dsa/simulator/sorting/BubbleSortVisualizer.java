@@ -1,6 +1,7 @@
 package com.dsa.simulator.sorting;
 
 import com.dsa.algorithms.sorting.BubbleSort;
+import com.dsa.algorithms.sorting.SortMetrics;
 import com.dsa.algorithms.sorting.Sortable;
 import javafx.animation.*;
 import javafx.application.Application;
@@ -18,7 +19,7 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Random;
 
 public class BubbleSortVisualizer extends Application {
@@ -29,7 +30,8 @@ public class BubbleSortVisualizer extends Application {
     private final Sortable algo = new BubbleSort();
     private int[] array = {64, 34, 25, 12, 22, 11, 90};
     private int[] originalArray = Arrays.copyOf(array, array.length); // Store original for replay
-    private List<int[]> steps;
+    private Iterator<int[]> stepIterator; // steps are pulled lazily while animating
+    private int[] previousStep;
     private int currentStep = 0;
     private boolean isSorting = false;
     private boolean isPaused = false;
@@ -37,6 +39,7 @@ public class BubbleSortVisualizer extends Application {
     private Rectangle[] bars;
     private int comparisons = 0;
     private int swaps = 0;
+    private SortMetrics exactMetrics; // what BubbleSort actually did, shown when the run completes
     
     private Label comparisonsLabel;
     private Label swapsLabel;
@@ -220,188 +223,214 @@ public class BubbleSortVisualizer extends Application {
         pauseBtn.setDisable(false);
         resumeBtn.setDisable(true);
 
-        // Generate steps using your BubbleSort algorithm
-        steps = algo.sortWithSteps(Arrays.copyOf(array, array.length));
+        // Stream steps from the BubbleSort algorithm as the animation consumes them
+        stepIterator = algo.stepIterator(Arrays.copyOf(array, array.length));
+        previousStep = stepIterator.hasNext() ? stepIterator.next() : Arrays.copyOf(array, array.length);
+        exactMetrics = algo.sortWithMetrics(Arrays.copyOf(array, array.length));
         comparisons = 0;
         swaps = 0;
         currentStep = 0;
 
-        sequentialTransition = new SequentialTransition();
-
-        // Process each step with animations
-        for (int step = 1; step < steps.size(); step++) {
-            final int currentStepIndex = step; // Create final copy for lambda
-            int[] previousStep = steps.get(step - 1);
-            int[] currentStepArray = steps.get(step);
+        playNextStep();
+    }
 
-            // Reset bars to default before this step
-            PauseTransition preStepReset = new PauseTransition(Duration.ZERO);
-            preStepReset.setOnFinished(e -> {
-                for (Rectangle bar : bars) {
-                    bar.setFill(DEFAULT_COLOR);
-                }
+    // Pulls one step from the iterator, animates it, and chains to the next step when done
+    private void playNextStep() {
+        if (!stepIterator.hasNext()) {
+            // Final sorted marking - dynamic from current fill
+            ParallelTransition markAllSorted = new ParallelTransition();
+            for (int i = 0; i < array.length; i++) {
+                FillTransition ft = new FillTransition(Duration.millis(500), bars[i]);
+                ft.setFromValue((Color) bars[i].getFill());
+                ft.setToValue(SORTED_COLOR);
+                markAllSorted.getChildren().add(ft);
+            }
+            sequentialTransition = new SequentialTransition(markAllSorted);
+            sequentialTransition.setOnFinished(e -> {
+                Platform.runLater(() -> {
+                    showExactCounts();
+                    statusLabel.setText("Status: Complete");
+                    statusLabel.setStyle("-fx-text-fill: #66bb6a; -fx-font-weight: bold;");
+                    isSorting = false;
+                    autoSortBtn.setDisable(false);
+                    nextStepBtn.setDisable(false);
+                    pauseBtn.setDisable(true);
+                    resumeBtn.setDisable(true);
+                });
             });
-            sequentialTransition.getChildren().add(preStepReset);
+        } else {
+            int[] currentStepArray = stepIterator.next();
+            sequentialTransition = buildStepTransition(currentStep + 1, previousStep, currentStepArray);
+            previousStep = currentStepArray;
+            sequentialTransition.setOnFinished(e -> playNextStep());
+        }
 
-            // Find which indices are being compared (improved detection)
-            int compareIdx1 = -1;
-            int compareIdx2 = -1;
-            boolean isSwap = false;
+        // Set speed based on slider
+        sequentialTransition.setRate(3000 / speedSlider.getValue());
+        if (!isPaused) {
+            sequentialTransition.play();
+        }
+    }
 
-            // Detect swap first
-            for (int i = 0; i < previousStep.length - 1; i++) {
-                if (previousStep[i] != currentStepArray[i] || previousStep[i + 1] != currentStepArray[i + 1]) {
-                    compareIdx1 = i;
-                    compareIdx2 = i + 1;
-                    isSwap = true;
-                    break;
-                }
+    private SequentialTransition buildStepTransition(int step, int[] previousStep, int[] currentStepArray) {
+        final int currentStepIndex = step; // Create final copy for lambda
+        SequentialTransition stepTransition = new SequentialTransition();
+
+        // Reset bars to default before this step
+        PauseTransition preStepReset = new PauseTransition(Duration.ZERO);
+        preStepReset.setOnFinished(e -> {
+            for (Rectangle bar : bars) {
+                bar.setFill(DEFAULT_COLOR);
             }
-            // If no swap, infer the comparison position (bubble sort typically compares sequentially per pass)
-            if (compareIdx1 == -1) {
-                // Simple heuristic: step % n for inner loop position in outer pass
-                int n = previousStep.length;
-                compareIdx1 = (step - 1) % (n - 1);
-                compareIdx2 = compareIdx1 + 1;
-                if (compareIdx2 >= n) compareIdx2 = n - 1;
+        });
+        stepTransition.getChildren().add(preStepReset);
+
+        // Find which indices are being compared (improved detection)
+        int compareIdx1 = -1;
+        int compareIdx2 = -1;
+        boolean isSwap = false;
+
+        // Detect swap first
+        for (int i = 0; i < previousStep.length - 1; i++) {
+            if (previousStep[i] != currentStepArray[i] || previousStep[i + 1] != currentStepArray[i + 1]) {
+                compareIdx1 = i;
+                compareIdx2 = i + 1;
+                isSwap = true;
+                break;
             }
+        }
+        // If no swap, infer the comparison position (bubble sort typically compares sequentially per pass)
+        if (compareIdx1 == -1) {
+            // Simple heuristic: step % n for inner loop position in outer pass
+            int n = previousStep.length;
+            compareIdx1 = (step - 1) % (n - 1);
+            compareIdx2 = compareIdx1 + 1;
+            if (compareIdx2 >= n) compareIdx2 = n - 1;
+        }
 
-            if (compareIdx1 != -1 && compareIdx2 != -1 && bars != null && compareIdx1 < bars.length && compareIdx2 < bars.length) {
-                // Show comparison (orange) - dynamic from current fill
-                ParallelTransition highlight = new ParallelTransition();
-                FillTransition ft1 = new FillTransition(Duration.millis(300), bars[compareIdx1]);
-                ft1.setFromValue((Color) bars[compareIdx1].getFill());
-                ft1.setToValue(COMPARING_COLOR);
-                FillTransition ft2 = new FillTransition(Duration.millis(300), bars[compareIdx2]);
-                ft2.setFromValue((Color) bars[compareIdx2].getFill());
-                ft2.setToValue(COMPARING_COLOR);
-                highlight.getChildren().addAll(ft1, ft2);
-
-                sequentialTransition.getChildren().add(highlight);
-
-                comparisons++;
-                Platform.runLater(() -> comparisonsLabel.setText("Comparisons: " + comparisons));
+        if (compareIdx1 != -1 && compareIdx2 != -1 && bars != null && compareIdx1 < bars.length && compareIdx2 < bars.length) {
+            // Show comparison (orange) - dynamic from current fill
+            ParallelTransition highlight = new ParallelTransition();
+            FillTransition ft1 = new FillTransition(Duration.millis(300), bars[compareIdx1]);
+            ft1.setFromValue((Color) bars[compareIdx1].getFill());
+            ft1.setToValue(COMPARING_COLOR);
+            FillTransition ft2 = new FillTransition(Duration.millis(300), bars[compareIdx2]);
+            ft2.setFromValue((Color) bars[compareIdx2].getFill());
+            ft2.setToValue(COMPARING_COLOR);
+            highlight.getChildren().addAll(ft1, ft2);
+
+            stepTransition.getChildren().add(highlight);
+
+            comparisons++;
+            Platform.runLater(() -> comparisonsLabel.setText("Comparisons: " + comparisons));
+
+            if (isSwap) {
+                // Handle swap animation (red) - dynamic from current (orange)
+                FillTransition swapColor1 = new FillTransition(Duration.millis(200), bars[compareIdx1]);
+                swapColor1.setFromValue(COMPARING_COLOR);
+                swapColor1.setToValue(SWAPPING_COLOR);
+                FillTransition swapColor2 = new FillTransition(Duration.millis(200), bars[compareIdx2]);
+                swapColor2.setFromValue(COMPARING_COLOR);
+                swapColor2.setToValue(SWAPPING_COLOR);
+                ParallelTransition swapColor = new ParallelTransition(swapColor1, swapColor2);
+
+                // Swap animation
+                TranslateTransition tt1 = new TranslateTransition(Duration.millis(500), bars[compareIdx1]);
+                TranslateTransition tt2 = new TranslateTransition(Duration.millis(500), bars[compareIdx2]);
+
+                double distance = BAR_WIDTH + SPACING;
+                tt1.setByX(distance);
+                tt2.setByX(-distance);
+
+                ParallelTransition swapAnimation = new ParallelTransition(tt1, tt2);
+
+                // Reset colors to default after swap - dynamic from current (red)
+                PauseTransition pause = new PauseTransition(Duration.millis(100));
+                FillTransition reset1 = new FillTransition(Duration.millis(300), bars[compareIdx1]);
+                reset1.setFromValue(SWAPPING_COLOR);
+                reset1.setToValue(DEFAULT_COLOR);
+                FillTransition reset2 = new FillTransition(Duration.millis(300), bars[compareIdx2]);
+                reset2.setFromValue(SWAPPING_COLOR);
+                reset2.setToValue(DEFAULT_COLOR);
+                ParallelTransition resetColors = new ParallelTransition(reset1, reset2);
+
+                TranslateTransition resetPos1 = new TranslateTransition(Duration.ZERO, bars[compareIdx1]);
+                TranslateTransition resetPos2 = new TranslateTransition(Duration.ZERO, bars[compareIdx2]);
+                resetPos1.setToX(0);
+                resetPos2.setToX(0);
+                ParallelTransition resetPositions = new ParallelTransition(resetPos1, resetPos2);
+
+                // Actually update the array after reset
+                SequentialTransition fullSwap = new SequentialTransition(
+                    swapColor, swapAnimation, pause, resetColors, resetPositions
+                );
+
+                fullSwap.setOnFinished(e -> {
+                    array = Arrays.copyOf(currentStepArray, currentStepArray.length);
+                    updateVisualization();
 
-                if (isSwap) {
-                    // Handle swap animation (red) - dynamic from current (orange)
-                    FillTransition swapColor1 = new FillTransition(Duration.millis(200), bars[compareIdx1]);
-                    swapColor1.setFromValue(COMPARING_COLOR);
-                    swapColor1.setToValue(SWAPPING_COLOR);
-                    FillTransition swapColor2 = new FillTransition(Duration.millis(200), bars[compareIdx2]);
-                    swapColor2.setFromValue(COMPARING_COLOR);
-                    swapColor2.setToValue(SWAPPING_COLOR);
-                    ParallelTransition swapColor = new ParallelTransition(swapColor1, swapColor2);
-
-                    // Swap animation
-                    TranslateTransition tt1 = new TranslateTransition(Duration.millis(500), bars[compareIdx1]);
-                    TranslateTransition tt2 = new TranslateTransition(Duration.millis(500), bars[compareIdx2]);
-
-                    double distance = BAR_WIDTH + SPACING;
-                    tt1.setByX(distance);
-                    tt2.setByX(-distance);
-
-                    ParallelTransition swapAnimation = new ParallelTransition(tt1, tt2);
-
-                    // Reset colors to default after swap - dynamic from current (red)
-                    PauseTransition pause = new PauseTransition(Duration.millis(100));
-                    FillTransition reset1 = new FillTransition(Duration.millis(300), bars[compareIdx1]);
-                    reset1.setFromValue(SWAPPING_COLOR);
-                    reset1.setToValue(DEFAULT_COLOR);
-                    FillTransition reset2 = new FillTransition(Duration.millis(300), bars[compareIdx2]);
-                    reset2.setFromValue(SWAPPING_COLOR);
-                    reset2.setToValue(DEFAULT_COLOR);
-                    ParallelTransition resetColors = new ParallelTransition(reset1, reset2);
-
-                    TranslateTransition resetPos1 = new TranslateTransition(Duration.ZERO, bars[compareIdx1]);
-                    TranslateTransition resetPos2 = new TranslateTransition(Duration.ZERO, bars[compareIdx2]);
-                    resetPos1.setToX(0);
-                    resetPos2.setToX(0);
-                    ParallelTransition resetPositions = new ParallelTransition(resetPos1, resetPos2);
-
-                    // Actually update the array after reset
-                    SequentialTransition fullSwap = new SequentialTransition(
-                        swapColor, swapAnimation, pause, resetColors, resetPositions
-                    );
-
-                    fullSwap.setOnFinished(e -> {
-                        array = Arrays.copyOf(currentStepArray, currentStepArray.length);
-                        updateVisualization();
-
-                        swaps++;
-                        Platform.runLater(() -> {
-                            swapsLabel.setText("Swaps: " + swaps);
-                            this.currentStep = currentStepIndex;
-                            stepLabel.setText("Step: " + this.currentStep);
-                        });
+                    swaps++;
+                    Platform.runLater(() -> {
+                        swapsLabel.setText("Swaps: " + swaps);
+                        this.currentStep = currentStepIndex;
+                        stepLabel.setText("Step: " + this.currentStep);
                     });
-
-                    sequentialTransition.getChildren().add(fullSwap);
-                } else {
-                    // No swap, reset colors after comparison - dynamic from current (orange)
-                    PauseTransition pause = new PauseTransition(Duration.millis(600));
-                    FillTransition reset1 = new FillTransition(Duration.millis(300), bars[compareIdx1]);
-                    reset1.setFromValue(COMPARING_COLOR);
-                    reset1.setToValue(DEFAULT_COLOR);
-                    FillTransition reset2 = new FillTransition(Duration.millis(300), bars[compareIdx2]);
-                    reset2.setFromValue(COMPARING_COLOR);
-                    reset2.setToValue(DEFAULT_COLOR);
-                    ParallelTransition resetColors = new ParallelTransition(reset1, reset2);
-
-                    SequentialTransition noSwap = new SequentialTransition(pause, resetColors);
-                    noSwap.setOnFinished(e -> {
-                        array = Arrays.copyOf(currentStepArray, currentStepArray.length);
-                        updateVisualization();
-                        Platform.runLater(() -> {
-                            this.currentStep = currentStepIndex;
-                            stepLabel.setText("Step: " + this.currentStep);
-                        });
+                });
+
+                stepTransition.getChildren().add(fullSwap);
+            } else {
+                // No swap, reset colors after comparison - dynamic from current (orange)
+                PauseTransition pause = new PauseTransition(Duration.millis(600));
+                FillTransition reset1 = new FillTransition(Duration.millis(300), bars[compareIdx1]);
+                reset1.setFromValue(COMPARING_COLOR);
+                reset1.setToValue(DEFAULT_COLOR);
+                FillTransition reset2 = new FillTransition(Duration.millis(300), bars[compareIdx2]);
+                reset2.setFromValue(COMPARING_COLOR);
+                reset2.setToValue(DEFAULT_COLOR);
+                ParallelTransition resetColors = new ParallelTransition(reset1, reset2);
+
+                SequentialTransition noSwap = new SequentialTransition(pause, resetColors);
+                noSwap.setOnFinished(e -> {
+                    array = Arrays.copyOf(currentStepArray, currentStepArray.length);
+                    updateVisualization();
+                    Platform.runLater(() -> {
+                        this.currentStep = currentStepIndex;
+                        stepLabel.setText("Step: " + this.currentStep);
                     });
-                    sequentialTransition.getChildren().add(noSwap);
-                }
+                });
+                stepTransition.getChildren().add(noSwap);
             }
         }
 
-        // Final sorted marking - dynamic from current fill
-        ParallelTransition markAllSorted = new ParallelTransition();
-        for (int i = 0; i < array.length; i++) {
-            FillTransition ft = new FillTransition(Duration.millis(500), bars[i]);
-            ft.setFromValue((Color) bars[i].getFill());
-            ft.setToValue(SORTED_COLOR);
-            markAllSorted.getChildren().add(ft);
-        }
-        sequentialTransition.getChildren().add(markAllSorted);
-
-        sequentialTransition.setOnFinished(e -> {
-            Platform.runLater(() -> {
-                statusLabel.setText("Status: Complete");
-                statusLabel.setStyle("-fx-text-fill: #66bb6a; -fx-font-weight: bold;");
-                isSorting = false;
-                autoSortBtn.setDisable(false);
-                nextStepBtn.setDisable(false);
-                pauseBtn.setDisable(true);
-                resumeBtn.setDisable(true);
-            });
-        });
-
-        // Set speed based on slider
-        sequentialTransition.setRate(3000 / speedSlider.getValue());
-        sequentialTransition.play();
+        return stepTransition;
     }
     
+    // The per-step counters are inferred from the animation; replace them with the exact totals
+    private void showExactCounts() {
+        if (exactMetrics == null) return;
+        comparisons = (int) exactMetrics.getComparisons();
+        swaps = (int) exactMetrics.getSwaps();
+        comparisonsLabel.setText("Comparisons: " + comparisons);
+        swapsLabel.setText("Swaps: " + swaps);
+    }
+
     private void performNextStep() {
         if (isSorting) return;
 
-        if (steps == null) {
-            steps = algo.sortWithSteps(Arrays.copyOf(array, array.length));
+        if (stepIterator == null) {
+            stepIterator = algo.stepIterator(Arrays.copyOf(array, array.length));
+            previousStep = stepIterator.hasNext() ? stepIterator.next() : Arrays.copyOf(array, array.length);
+            exactMetrics = algo.sortWithMetrics(Arrays.copyOf(array, array.length));
             currentStep = 0;
             comparisons = 0;
             swaps = 0;
         }
 
-        if (currentStep < steps.size() - 1) {
+        if (stepIterator.hasNext()) {
             currentStep++;
-            int[] previous = steps.get(currentStep - 1);
-            int[] current = steps.get(currentStep);
+            int[] previous = previousStep;
+            int[] current = stepIterator.next();
+            previousStep = current;
             array = Arrays.copyOf(current, current.length);
             updateVisualization();
 
@@ -453,7 +482,8 @@ public class BubbleSortVisualizer extends Application {
             swapsLabel.setText("Swaps: " + swaps);
 
             // If we've reached the end, mark as complete
-            if (currentStep == steps.size() - 1) {
+            if (!stepIterator.hasNext()) {
+                showExactCounts();
                 statusLabel.setText("Status: Complete");
                 statusLabel.setStyle("-fx-text-fill: #66bb6a; -fx-font-weight: bold;");
 
@@ -480,7 +510,7 @@ public class BubbleSortVisualizer extends Application {
         // Store the new array as original for replay
         originalArray = Arrays.copyOf(array, array.length);
         
-        steps = null;
+        stepIterator = null;
         comparisons = 0;
         swaps = 0;
         currentStep = 0;
@@ -509,7 +539,7 @@ public class BubbleSortVisualizer extends Application {
         // Reset to the original array (not a new random one)
         array = Arrays.copyOf(originalArray, originalArray.length);
         
-        steps = null;
+        stepIterator = null;
         comparisons = 0;
         swaps = 0;
         currentStep = 0;
@@ -571,7 +601,7 @@ public class BubbleSortVisualizer extends Application {
                 
                 array = newArray;
                 originalArray = Arrays.copyOf(array, array.length); // Store for replay
-                steps = null; // Reset steps so new sorting will use the new values
+                stepIterator = null; // Reset steps so new sorting will use the new values
                 comparisons = 0;
                 swaps = 0;
                 currentStep = 0;
@@ -596,4 +626,4 @@ public class BubbleSortVisualizer extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -18,7 +18,7 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Random;
 
 public class QuickSortVisualizer extends Application {
@@ -29,7 +29,8 @@ public class QuickSortVisualizer extends Application {
     private final Sortable algo = new QuickSort();
     private int[] array = {64, 34, 25, 12, 22, 11, 90};
     private int[] originalArray = Arrays.copyOf(array, array.length);
-    private List<int[]> steps;
+    private Iterator<int[]> stepIterator; // steps are pulled lazily while animating
+    private int[] previousStep;
     private int currentStep = 0;
     private boolean isSorting = false;
     private boolean isPaused = false;
@@ -213,165 +214,179 @@ public class QuickSortVisualizer extends Application {
         pauseBtn.setDisable(false);
         resumeBtn.setDisable(true);
 
-        steps = algo.sortWithSteps(Arrays.copyOf(array, array.length));
+        // Partition steps are pulled from QuickSort one at a time while animating
+        stepIterator = algo.stepIterator(Arrays.copyOf(array, array.length));
+        previousStep = stepIterator.hasNext() ? stepIterator.next() : Arrays.copyOf(array, array.length);
         comparisons = 0;
         swaps = 0;
         currentStep = 0;
 
-        sequentialTransition = new SequentialTransition();
-
-        for (int step = 1; step < steps.size(); step++) {
-            final int currentStepIndex = step;
-            int[] previousStep = steps.get(step - 1);
-            int[] currentStepArray = steps.get(step);
+        playNextStep();
+    }
 
-            // Reset bars to default before this step
-            PauseTransition preStepReset = new PauseTransition(Duration.ZERO);
-            preStepReset.setOnFinished(e -> {
-                for (Rectangle bar : bars) {
-                    bar.setFill(DEFAULT_COLOR);
-                }
+    // Animates the next streamed step, then chains to the one after it
+    private void playNextStep() {
+        if (!stepIterator.hasNext()) {
+            // Final sorted state
+            ParallelTransition markAllSorted = new ParallelTransition();
+            for (int i = 0; i < array.length; i++) {
+                FillTransition ft = new FillTransition(Duration.millis(500), bars[i]);
+                ft.setFromValue((Color) bars[i].getFill());
+                ft.setToValue(SORTED_COLOR);
+                markAllSorted.getChildren().add(ft);
+            }
+            sequentialTransition = new SequentialTransition(markAllSorted);
+            sequentialTransition.setOnFinished(e -> {
+                Platform.runLater(() -> {
+                    statusLabel.setText("Status: Complete");
+                    statusLabel.setStyle("-fx-text-fill: #66bb6a; -fx-font-weight: bold;");
+                    isSorting = false;
+                    autoSortBtn.setDisable(false);
+                    nextStepBtn.setDisable(false);
+                    pauseBtn.setDisable(true);
+                    resumeBtn.setDisable(true);
+                });
             });
-            sequentialTransition.getChildren().add(preStepReset);
+        } else {
+            int[] currentStepArray = stepIterator.next();
+            sequentialTransition = buildStepTransition(currentStep + 1, previousStep, currentStepArray);
+            previousStep = currentStepArray;
+            sequentialTransition.setOnFinished(e -> playNextStep());
+        }
 
-            // Find changed indices (for Quick Sort, we need to detect pivot and swaps)
-            int changedIndex1 = -1;
-            int changedIndex2 = -1;
-            boolean isSwap = false;
+        sequentialTransition.setRate(3000 / speedSlider.getValue());
+        if (!isPaused) {
+            sequentialTransition.play();
+        }
+    }
 
-            // Detect which elements changed
-            for (int i = 0; i < previousStep.length; i++) {
-                if (previousStep[i] != currentStepArray[i]) {
-                    if (changedIndex1 == -1) {
-                        changedIndex1 = i;
-                    } else {
-                        changedIndex2 = i;
-                        isSwap = true;
-                        break;
-                    }
+    private SequentialTransition buildStepTransition(int step, int[] previousStep, int[] currentStepArray) {
+        final int currentStepIndex = step;
+        SequentialTransition stepTransition = new SequentialTransition();
+
+        // Reset bars to default before this step
+        PauseTransition preStepReset = new PauseTransition(Duration.ZERO);
+        preStepReset.setOnFinished(e -> {
+            for (Rectangle bar : bars) {
+                bar.setFill(DEFAULT_COLOR);
+            }
+        });
+        stepTransition.getChildren().add(preStepReset);
+
+        // Find changed indices (for Quick Sort, we need to detect pivot and swaps)
+        int changedIndex1 = -1;
+        int changedIndex2 = -1;
+        boolean isSwap = false;
+
+        // Detect which elements changed
+        for (int i = 0; i < previousStep.length; i++) {
+            if (previousStep[i] != currentStepArray[i]) {
+                if (changedIndex1 == -1) {
+                    changedIndex1 = i;
+                } else {
+                    changedIndex2 = i;
+                    isSwap = true;
+                    break;
                 }
             }
+        }
 
-            // Quick Sort specific visualization
-            if (changedIndex1 != -1 && bars != null && changedIndex1 < bars.length) {
-                // Highlight the pivot element in purple
-                int pivotIndex = findPivotIndex(previousStep, currentStepArray);
-                if (pivotIndex != -1) {
-                    FillTransition pivotHighlight = new FillTransition(Duration.millis(300), bars[pivotIndex]);
-                    pivotHighlight.setFromValue((Color) bars[pivotIndex].getFill());
-                    pivotHighlight.setToValue(PIVOT_COLOR);
-                    sequentialTransition.getChildren().add(pivotHighlight);
-                }
+        // Quick Sort specific visualization
+        if (changedIndex1 != -1 && bars != null && changedIndex1 < bars.length) {
+            // Highlight the pivot element in purple
+            int pivotIndex = findPivotIndex(previousStep, currentStepArray);
+            if (pivotIndex != -1) {
+                FillTransition pivotHighlight = new FillTransition(Duration.millis(300), bars[pivotIndex]);
+                pivotHighlight.setFromValue((Color) bars[pivotIndex].getFill());
+                pivotHighlight.setToValue(PIVOT_COLOR);
+                stepTransition.getChildren().add(pivotHighlight);
+            }
 
-                if (isSwap && changedIndex2 != -1 && changedIndex2 < bars.length) {
-                    // Highlight comparing elements in orange
-                    FillTransition compare1 = new FillTransition(Duration.millis(300), bars[changedIndex1]);
-                    compare1.setFromValue((Color) bars[changedIndex1].getFill());
-                    compare1.setToValue(COMPARING_COLOR);
-                    FillTransition compare2 = new FillTransition(Duration.millis(300), bars[changedIndex2]);
-                    compare2.setFromValue((Color) bars[changedIndex2].getFill());
-                    compare2.setToValue(COMPARING_COLOR);
-                    ParallelTransition compareHighlight = new ParallelTransition(compare1, compare2);
-                    sequentialTransition.getChildren().add(compareHighlight);
+            if (isSwap && changedIndex2 != -1 && changedIndex2 < bars.length) {
+                // Highlight comparing elements in orange
+                FillTransition compare1 = new FillTransition(Duration.millis(300), bars[changedIndex1]);
+                compare1.setFromValue((Color) bars[changedIndex1].getFill());
+                compare1.setToValue(COMPARING_COLOR);
+                FillTransition compare2 = new FillTransition(Duration.millis(300), bars[changedIndex2]);
+                compare2.setFromValue((Color) bars[changedIndex2].getFill());
+                compare2.setToValue(COMPARING_COLOR);
+                ParallelTransition compareHighlight = new ParallelTransition(compare1, compare2);
+                stepTransition.getChildren().add(compareHighlight);
+
+                comparisons++;
+                Platform.runLater(() -> comparisonsLabel.setText("Comparisons: " + comparisons));
+
+                // Swap animation
+                FillTransition swapColor1 = new FillTransition(Duration.millis(200), bars[changedIndex1]);
+                swapColor1.setFromValue(COMPARING_COLOR);
+                swapColor1.setToValue(SWAPPING_COLOR);
+                FillTransition swapColor2 = new FillTransition(Duration.millis(200), bars[changedIndex2]);
+                swapColor2.setFromValue(COMPARING_COLOR);
+                swapColor2.setToValue(SWAPPING_COLOR);
+                ParallelTransition swapColor = new ParallelTransition(swapColor1, swapColor2);
+
+                TranslateTransition tt1 = new TranslateTransition(Duration.millis(500), bars[changedIndex1]);
+                TranslateTransition tt2 = new TranslateTransition(Duration.millis(500), bars[changedIndex2]);
+
+                double distance = (changedIndex2 - changedIndex1) * (BAR_WIDTH + SPACING);
+                tt1.setByX(distance);
+                tt2.setByX(-distance);
+
+                ParallelTransition swapAnimation = new ParallelTransition(tt1, tt2);
+
+                // Reset after swap
+                PauseTransition pause = new PauseTransition(Duration.millis(100));
+                FillTransition reset1 = new FillTransition(Duration.millis(300), bars[changedIndex1]);
+                reset1.setFromValue(SWAPPING_COLOR);
+                reset1.setToValue(DEFAULT_COLOR);
+                FillTransition reset2 = new FillTransition(Duration.millis(300), bars[changedIndex2]);
+                reset2.setFromValue(SWAPPING_COLOR);
+                reset2.setToValue(DEFAULT_COLOR);
+                ParallelTransition resetColors = new ParallelTransition(reset1, reset2);
+
+                TranslateTransition resetPos1 = new TranslateTransition(Duration.ZERO, bars[changedIndex1]);
+                TranslateTransition resetPos2 = new TranslateTransition(Duration.ZERO, bars[changedIndex2]);
+                resetPos1.setToX(0);
+                resetPos2.setToX(0);
+                ParallelTransition resetPositions = new ParallelTransition(resetPos1, resetPos2);
+
+                SequentialTransition fullSwap = new SequentialTransition(
+                    swapColor, swapAnimation, pause, resetColors, resetPositions
+                );
+
+                fullSwap.setOnFinished(e -> {
+                    array = Arrays.copyOf(currentStepArray, currentStepArray.length);
+                    updateVisualization();
 
-                    comparisons++;
-                    Platform.runLater(() -> comparisonsLabel.setText("Comparisons: " + comparisons));
-
-                    // Swap animation
-                    FillTransition swapColor1 = new FillTransition(Duration.millis(200), bars[changedIndex1]);
-                    swapColor1.setFromValue(COMPARING_COLOR);
-                    swapColor1.setToValue(SWAPPING_COLOR);
-                    FillTransition swapColor2 = new FillTransition(Duration.millis(200), bars[changedIndex2]);
-                    swapColor2.setFromValue(COMPARING_COLOR);
-                    swapColor2.setToValue(SWAPPING_COLOR);
-                    ParallelTransition swapColor = new ParallelTransition(swapColor1, swapColor2);
-
-                    TranslateTransition tt1 = new TranslateTransition(Duration.millis(500), bars[changedIndex1]);
-                    TranslateTransition tt2 = new TranslateTransition(Duration.millis(500), bars[changedIndex2]);
-
-                    double distance = (changedIndex2 - changedIndex1) * (BAR_WIDTH + SPACING);
-                    tt1.setByX(distance);
-                    tt2.setByX(-distance);
-
-                    ParallelTransition swapAnimation = new ParallelTransition(tt1, tt2);
-
-                    // Reset after swap
-                    PauseTransition pause = new PauseTransition(Duration.millis(100));
-                    FillTransition reset1 = new FillTransition(Duration.millis(300), bars[changedIndex1]);
-                    reset1.setFromValue(SWAPPING_COLOR);
-                    reset1.setToValue(DEFAULT_COLOR);
-                    FillTransition reset2 = new FillTransition(Duration.millis(300), bars[changedIndex2]);
-                    reset2.setFromValue(SWAPPING_COLOR);
-                    reset2.setToValue(DEFAULT_COLOR);
-                    ParallelTransition resetColors = new ParallelTransition(reset1, reset2);
-
-                    TranslateTransition resetPos1 = new TranslateTransition(Duration.ZERO, bars[changedIndex1]);
-                    TranslateTransition resetPos2 = new TranslateTransition(Duration.ZERO, bars[changedIndex2]);
-                    resetPos1.setToX(0);
-                    resetPos2.setToX(0);
-                    ParallelTransition resetPositions = new ParallelTransition(resetPos1, resetPos2);
-
-                    SequentialTransition fullSwap = new SequentialTransition(
-                        swapColor, swapAnimation, pause, resetColors, resetPositions
-                    );
-
-                    fullSwap.setOnFinished(e -> {
-                        array = Arrays.copyOf(currentStepArray, currentStepArray.length);
-                        updateVisualization();
-
-                        swaps++;
-                        Platform.runLater(() -> {
-                            swapsLabel.setText("Swaps: " + swaps);
-                            currentStep = currentStepIndex;
-                            stepLabel.setText("Step: " + currentStep);
-                        });
+                    swaps++;
+                    Platform.runLater(() -> {
+                        swapsLabel.setText("Swaps: " + swaps);
+                        currentStep = currentStepIndex;
+                        stepLabel.setText("Step: " + currentStep);
                     });
-
-                    sequentialTransition.getChildren().add(fullSwap);
-                } else {
-                    // Single element movement (pivot placement)
-                    FillTransition elementMove = new FillTransition(Duration.millis(300), bars[changedIndex1]);
-                    elementMove.setFromValue((Color) bars[changedIndex1].getFill());
-                    elementMove.setToValue(PARTITION_COLOR);
-                    
-                    SequentialTransition singleMove = new SequentialTransition(elementMove);
-                    singleMove.setOnFinished(e -> {
-                        array = Arrays.copyOf(currentStepArray, currentStepArray.length);
-                        updateVisualization();
-                        Platform.runLater(() -> {
-                            currentStep = currentStepIndex;
-                            stepLabel.setText("Step: " + currentStep);
-                        });
+                });
+
+                stepTransition.getChildren().add(fullSwap);
+            } else {
+                // Single element movement (pivot placement)
+                FillTransition elementMove = new FillTransition(Duration.millis(300), bars[changedIndex1]);
+                elementMove.setFromValue((Color) bars[changedIndex1].getFill());
+                elementMove.setToValue(PARTITION_COLOR);
+                
+                SequentialTransition singleMove = new SequentialTransition(elementMove);
+                singleMove.setOnFinished(e -> {
+                    array = Arrays.copyOf(currentStepArray, currentStepArray.length);
+                    updateVisualization();
+                    Platform.runLater(() -> {
+                        currentStep = currentStepIndex;
+                        stepLabel.setText("Step: " + currentStep);
                     });
-                    sequentialTransition.getChildren().add(singleMove);
-                }
+                });
+                stepTransition.getChildren().add(singleMove);
             }
         }
 
-        // Final sorted state
-        ParallelTransition markAllSorted = new ParallelTransition();
-        for (int i = 0; i < array.length; i++) {
-            FillTransition ft = new FillTransition(Duration.millis(500), bars[i]);
-            ft.setFromValue((Color) bars[i].getFill());
-            ft.setToValue(SORTED_COLOR);
-            markAllSorted.getChildren().add(ft);
-        }
-        sequentialTransition.getChildren().add(markAllSorted);
-
-        sequentialTransition.setOnFinished(e -> {
-            Platform.runLater(() -> {
-                statusLabel.setText("Status: Complete");
-                statusLabel.setStyle("-fx-text-fill: #66bb6a; -fx-font-weight: bold;");
-                isSorting = false;
-                autoSortBtn.setDisable(false);
-                nextStepBtn.setDisable(false);
-                pauseBtn.setDisable(true);
-                resumeBtn.setDisable(true);
-            });
-        });
-
-        sequentialTransition.setRate(3000 / speedSlider.getValue());
-        sequentialTransition.play();
+        return stepTransition;
     }
     
     private int findPivotIndex(int[] previous, int[] current) {
@@ -389,17 +404,19 @@ public class QuickSortVisualizer extends Application {
     private void performNextStep() {
         if (isSorting) return;
 
-        if (steps == null) {
-            steps = algo.sortWithSteps(Arrays.copyOf(array, array.length));
+        if (stepIterator == null) {
+            stepIterator = algo.stepIterator(Arrays.copyOf(array, array.length));
+            previousStep = stepIterator.hasNext() ? stepIterator.next() : Arrays.copyOf(array, array.length);
             currentStep = 0;
             comparisons = 0;
             swaps = 0;
         }
 
-        if (currentStep < steps.size() - 1) {
+        if (stepIterator.hasNext()) {
             currentStep++;
-            int[] previous = steps.get(currentStep - 1);
-            int[] current = steps.get(currentStep);
+            int[] previous = previousStep;
+            int[] current = stepIterator.next();
+            previousStep = current;
             array = Arrays.copyOf(current, current.length);
             updateVisualization();
 
@@ -451,7 +468,7 @@ public class QuickSortVisualizer extends Application {
             comparisonsLabel.setText("Comparisons: " + comparisons);
             swapsLabel.setText("Swaps: " + swaps);
 
-            if (currentStep == steps.size() - 1) {
+            if (!stepIterator.hasNext()) {
                 statusLabel.setText("Status: Complete");
                 statusLabel.setStyle("-fx-text-fill: #66bb6a; -fx-font-weight: bold;");
 
@@ -475,7 +492,7 @@ public class QuickSortVisualizer extends Application {
         
         originalArray = Arrays.copyOf(array, array.length);
         
-        steps = null;
+        stepIterator = null;
         comparisons = 0;
         swaps = 0;
         currentStep = 0;
@@ -503,7 +520,7 @@ public class QuickSortVisualizer extends Application {
         
         array = Arrays.copyOf(originalArray, originalArray.length);
         
-        steps = null;
+        stepIterator = null;
         comparisons = 0;
         swaps = 0;
         currentStep = 0;
@@ -563,7 +580,7 @@ public class QuickSortVisualizer extends Application {
                 
                 array = newArray;
                 originalArray = Arrays.copyOf(array, array.length);
-                steps = null;
+                stepIterator = null;
                 comparisons = 0;
                 swaps = 0;
                 currentStep = 0;
@@ -0,0 +1,26 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Exercises the kernel directly, so it is covered whether or not -Ddsa.simd=true is set.
+// Compiled and run only with -P simd, like VectorScan itself.
+public class VectorScanTest {
+
+    private final VectorScan scan = new VectorScan();
+
+    @Test
+    void testFindsFirstMatchAtEveryOffset() {
+        for (int n : new int[]{0, 1, VectorScan.LANES - 1, 4 * VectorScan.LANES, 4 * VectorScan.LANES + 3, 1000}) {
+            for (int pos = -1; pos < n; pos++) {
+                int[] arr = new int[n];
+                if (pos >= 0) arr[pos] = 7;
+                if (pos >= 0 && pos + 1 < n) arr[pos + 1] = 7;
+                assertEquals(pos, scan.indexOf(arr, 0, n, 7), "n=" + n + " pos=" + pos);
+            }
+        }
+        int[] arr = {7, 0, 0, 7, 0};
+        assertEquals(3, scan.indexOf(arr, 1, 5, 7));
+        assertEquals(-1, scan.indexInBlock(arr, 1, 3, 7));
+    }
+}
@@ -0,0 +1,66 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+// Exercises the kernels directly, so they are covered whether or not -Ddsa.simd=true is set.
+// Compiled and run only with -P simd, like VectorKernels itself.
+public class VectorKernelsTest {
+
+    private final Random rand = new Random(12);
+    private final VectorKernels kernels = new VectorKernels();
+
+    @Test
+    void testSortSmallMatchesArraysSort() {
+        int[] scratch = kernels.scratch(0);
+        for (int len = 0; len <= VectorKernels.MAX_NETWORK; len++) {
+            for (int bound : new int[]{3, 1000, Integer.MAX_VALUE}) {
+                int[] arr = new int[len + 10];
+                for (int i = 0; i < arr.length; i++) arr[i] = rand.nextInt(bound) - bound / 2;
+                arr[5] = Integer.MAX_VALUE;
+                int[] expected = arr.clone();
+                Arrays.sort(expected, 5, 5 + len);
+
+                kernels.sortSmall(arr, 5, 5 + len, scratch);
+                assertArrayEquals(expected, arr, "len " + len);
+            }
+        }
+    }
+
+    @Test
+    void testPartitionIsStableAndSplitsAtPivot() {
+        for (int n : new int[]{0, 1, 7, 64, 1001}) {
+            int[] arr = rand.ints(n, 0, 20).toArray();
+            int[] scratch = kernels.scratch(n);
+            for (boolean inclusive : new boolean[]{false, true}) {
+                int[] copy = arr.clone();
+                int split = kernels.partition(copy, 0, n, 10, inclusive, scratch);
+
+                int[] expected = new int[n];
+                int k = 0;
+                for (int x : arr) if (inclusive ? x <= 10 : x < 10) expected[k++] = x;
+                assertEquals(k, split);
+                for (int x : arr) if (!(inclusive ? x <= 10 : x < 10)) expected[k++] = x;
+                assertArrayEquals(expected, copy);
+            }
+        }
+    }
+
+    @Test
+    void testInsertionSortAndIndexOfMin() {
+        for (int n : new int[]{1, 5, 33, 500}) {
+            int[] arr = rand.ints(n, -50, 50).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            int first = 0;
+            for (int i = 1; i < n; i++) if (arr[i] < arr[first]) first = i;
+            assertEquals(first, kernels.indexOfMin(arr, 0, n));
+
+            kernels.insertionSort(arr, 0, n);
+            assertArrayEquals(expected, arr);
+        }
+    }
+}
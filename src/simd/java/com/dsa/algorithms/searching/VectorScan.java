@@ -0,0 +1,58 @@
+package com.dsa.algorithms.searching;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD equality scans on the preferred vector shape (8 lanes on AVX2, 16 on AVX-512).
+// Compiled only with -P simd and loaded by Simd; results match the scalar loops exactly.
+final class VectorScan implements ScanKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    static final int LANES = SPECIES.length();
+
+    VectorScan() {
+    }
+
+    @Override
+    public int lanes() {
+        return LANES;
+    }
+
+    // Four vectors are compared per iteration and their masks combined,
+    // so the loop takes one branch per 4 * LANES elements
+    @Override
+    public int indexOf(int[] a, int from, int to, int target) {
+        IntVector t = IntVector.broadcast(SPECIES, target);
+        int i = from;
+        int step = 4 * LANES;
+        for (int bound = to - step; i <= bound; i += step) {
+            VectorMask<Integer> m0 = IntVector.fromArray(SPECIES, a, i).compare(VectorOperators.EQ, t);
+            VectorMask<Integer> m1 = IntVector.fromArray(SPECIES, a, i + LANES).compare(VectorOperators.EQ, t);
+            VectorMask<Integer> m2 = IntVector.fromArray(SPECIES, a, i + 2 * LANES).compare(VectorOperators.EQ, t);
+            VectorMask<Integer> m3 = IntVector.fromArray(SPECIES, a, i + 3 * LANES).compare(VectorOperators.EQ, t);
+            if (m0.or(m1).or(m2).or(m3).anyTrue()) {
+                if (m0.anyTrue()) return i + m0.firstTrue();
+                if (m1.anyTrue()) return i + LANES + m1.firstTrue();
+                if (m2.anyTrue()) return i + 2 * LANES + m2.firstTrue();
+                return i + 3 * LANES + m3.firstTrue();
+            }
+        }
+        for (; i < to; i += LANES) {
+            int match = indexInBlock(a, i, to, t);
+            if (match >= 0) return match;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexInBlock(int[] a, int start, int to, int target) {
+        return indexInBlock(a, start, to, IntVector.broadcast(SPECIES, target));
+    }
+
+    private static int indexInBlock(int[] a, int start, int to, IntVector t) {
+        VectorMask<Integer> inRange = SPECIES.indexInRange(start, to);
+        VectorMask<Integer> m = IntVector.fromArray(SPECIES, a, start, inRange).compare(VectorOperators.EQ, t, inRange);
+        return m.anyTrue() ? start + m.firstTrue() : -1;
+    }
+}
@@ -0,0 +1,165 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD inner loops for int sorting on the preferred vector shape (8 lanes on AVX2,
+// 16 on AVX-512). Compiled only with -P simd and loaded by Simd; every kernel produces
+// exactly the same array as the scalar loop it replaces.
+final class VectorKernels implements SortKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    static final int LANES = SPECIES.length();
+
+    // For each bit b below LANES: the shuffle pairing lane i with lane i ^ (1 << b),
+    // and the mask of lanes that have bit b set
+    private static final VectorShuffle<Integer>[] PARTNER;
+    private static final VectorMask<Integer>[] BIT_SET;
+
+    static {
+        int bits = Integer.numberOfTrailingZeros(LANES);
+        @SuppressWarnings("unchecked")
+        VectorShuffle<Integer>[] partner = new VectorShuffle[bits];
+        @SuppressWarnings("unchecked")
+        VectorMask<Integer>[] bitSet = new VectorMask[bits];
+        IntVector iota = IntVector.zero(SPECIES).addIndex(1);
+        for (int b = 0; b < bits; b++) {
+            int bit = 1 << b;
+            partner[b] = VectorShuffle.fromOp(SPECIES, i -> i ^ bit);
+            bitSet[b] = iota.and(bit).compare(VectorOperators.NE, 0);
+        }
+        PARTNER = partner;
+        BIT_SET = bitSet;
+    }
+
+    VectorKernels() {
+    }
+
+    @Override
+    public int lanes() {
+        return LANES;
+    }
+
+    @Override
+    public int[] scratch(int n) {
+        return new int[Math.max(n, MAX_NETWORK) + LANES];
+    }
+
+    // Stable two-way partition of [lo, hi): values < pivot (<= when inclusive) move to the
+    // front in their original order, the rest follow. Returns the first index of the rest.
+    // Each vector is split with compress(): the left part is written back in place (its
+    // write position never passes the vector just loaded) and the right part goes to scratch.
+    @Override
+    public int partition(int[] a, int lo, int hi, int pivot, boolean inclusive, int[] scratch) {
+        VectorOperators.Comparison op = inclusive ? VectorOperators.LE : VectorOperators.LT;
+        IntVector p = IntVector.broadcast(SPECIES, pivot);
+        int l = lo, r = 0, i = lo;
+        int bound = lo + SPECIES.loopBound(hi - lo);
+        for (; i < bound; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, a, i);
+            VectorMask<Integer> left = v.compare(op, p);
+            v.compress(left).intoArray(a, l);
+            v.compress(left.not()).intoArray(scratch, r);
+            int count = left.trueCount();
+            l += count;
+            r += LANES - count;
+        }
+        for (; i < hi; i++) {
+            int x = a[i];
+            if (x < pivot || (inclusive && x == pivot))
+                a[l++] = x;
+            else
+                scratch[r++] = x;
+        }
+        System.arraycopy(scratch, 0, a, l, r);
+        return l;
+    }
+
+    // Sorts [lo, hi), at most MAX_NETWORK long, with a bitonic sorting network.
+    // The block is padded with Integer.MAX_VALUE to a power of two of at least LANES.
+    // Compare-exchange stages with a stride >= LANES are whole-vector min/max pairs;
+    // shorter strides pair lanes inside one vector through a shuffle and a blend.
+    @Override
+    public void sortSmall(int[] a, int lo, int hi, int[] buf) {
+        int len = hi - lo;
+        if (len < 2) return;
+        int m = Math.max(LANES, Integer.highestOneBit(len - 1) << 1);
+        System.arraycopy(a, lo, buf, 0, len);
+        Arrays.fill(buf, len, m, Integer.MAX_VALUE);
+
+        for (int k = 2; k <= m; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= LANES) {
+                    for (int o = 0; o < m; o += LANES) {
+                        if ((o & j) != 0) continue;
+                        IntVector x = IntVector.fromArray(SPECIES, buf, o);
+                        IntVector y = IntVector.fromArray(SPECIES, buf, o + j);
+                        boolean ascending = (o & k) == 0;
+                        (ascending ? x.min(y) : x.max(y)).intoArray(buf, o);
+                        (ascending ? x.max(y) : x.min(y)).intoArray(buf, o + j);
+                    }
+                } else {
+                    int b = Integer.numberOfTrailingZeros(j);
+                    for (int o = 0; o < m; o += LANES) {
+                        // The upper lane of each pair keeps the max in an ascending block
+                        VectorMask<Integer> takeMax;
+                        if (k >= LANES)
+                            takeMax = (o & k) == 0 ? BIT_SET[b] : BIT_SET[b].not();
+                        else
+                            takeMax = BIT_SET[b].eq(BIT_SET[Integer.numberOfTrailingZeros(k)]).not();
+                        IntVector x = IntVector.fromArray(SPECIES, buf, o);
+                        IntVector y = x.rearrange(PARTNER[b]);
+                        x.min(y).blend(x.max(y), takeMax).intoArray(buf, o);
+                    }
+                }
+            }
+        }
+        System.arraycopy(buf, 0, a, lo, len);
+    }
+
+    // Insertion sort of [lo, hi) that finds each insertion point a vector at a time
+    // (the sorted prefix makes the "> key" lanes a suffix) and shifts with arraycopy
+    @Override
+    public void insertionSort(int[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int key = a[i];
+            if (a[i - 1] <= key) continue;
+            int pos = i;
+            while (pos - lo >= LANES) {
+                IntVector v = IntVector.fromArray(SPECIES, a, pos - LANES);
+                int greater = v.compare(VectorOperators.GT, key).trueCount();
+                pos -= greater;
+                if (greater < LANES) break;
+            }
+            while (pos > lo && a[pos - 1] > key) pos--;
+            System.arraycopy(a, pos, a, pos + 1, i - pos);
+            a[pos] = key;
+        }
+    }
+
+    @Override
+    public int indexOfMin(int[] a, int from, int to) {
+        int i = from;
+        int min = a[from];
+        int bound = from + SPECIES.loopBound(to - from);
+        if (bound > from) {
+            IntVector mins = IntVector.fromArray(SPECIES, a, from);
+            for (i = from + LANES; i < bound; i += LANES) {
+                mins = mins.min(IntVector.fromArray(SPECIES, a, i));
+            }
+            min = mins.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < to; i++) {
+            if (a[i] < min) min = a[i];
+        }
+        for (i = from; i < bound; i += LANES) {
+            VectorMask<Integer> hit = IntVector.fromArray(SPECIES, a, i).compare(VectorOperators.EQ, min);
+            if (hit.anyTrue()) return i + hit.firstTrue();
+        }
+        while (a[i] != min) i++;
+        return i;
+    }
+}
@@ -0,0 +1,88 @@
+package com.dsa.algorithms.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class CSRGraphTest {
+
+    @Test
+    void testBuilderKeepsInsertionOrderPerVertex() {
+        CSRGraph graph = CSRGraph.builder(4)
+                .addEdge(2, 3)
+                .addEdge(0, 2)
+                .addEdge(0, 1)
+                .addEdge(2, 0)
+                .build();
+
+        assertEquals(4, graph.vertexCount());
+        assertEquals(4, graph.edgeCount());
+        assertFalse(graph.isWeighted());
+        assertArrayEquals(new int[]{2, 1}, graph.neighbors(0));
+        assertArrayEquals(new int[]{}, graph.neighbors(1));
+        assertArrayEquals(new int[]{3, 0}, graph.neighbors(2));
+        assertEquals(1, graph.weight(graph.firstEdge(0)));
+        assertEquals(2, graph.degree(2));
+    }
+
+    @Test
+    void testWeightsAndUndirectedEdges() {
+        CSRGraph graph = CSRGraph.builder(3)
+                .addEdge(0, 1)
+                .addUndirectedEdge(1, 2, 7)
+                .build();
+
+        assertTrue(graph.isWeighted());
+        assertEquals(1, graph.weight(graph.firstEdge(0)));
+        assertEquals(7, graph.weight(graph.firstEdge(1)));
+        assertArrayEquals(new int[]{1}, graph.neighbors(2));
+        assertEquals(7, graph.weight(graph.firstEdge(2)));
+    }
+
+    @Test
+    void testFromExistingFormats() {
+        Map<Integer, List<Integer>> map = new HashMap<>();
+        map.put(1, Arrays.asList(2, 3));
+        map.put(3, Collections.singletonList(5));
+        CSRGraph fromMap = CSRGraph.fromAdjacencyMap(map);
+        assertEquals(6, fromMap.vertexCount());
+        assertArrayEquals(new int[]{2, 3}, fromMap.neighbors(1));
+        assertArrayEquals(new int[]{5}, fromMap.neighbors(3));
+        assertEquals(0, fromMap.degree(5));
+
+        CSRGraph fromList = CSRGraph.fromAdjacencyList(Arrays.asList(
+                Arrays.asList(1, 2), Collections.emptyList(), Collections.singletonList(1)));
+        assertEquals(3, fromList.edgeCount());
+        assertArrayEquals(new int[]{1}, fromList.neighbors(2));
+
+        CSRGraph fromMatrix = CSRGraph.fromAdjacencyMatrix(new int[][]{
+                {0, 4, 0},
+                {4, 0, 9},
+                {0, 9, 0}});
+        assertEquals(4, fromMatrix.edgeCount());
+        assertArrayEquals(new int[]{0, 2}, fromMatrix.neighbors(1));
+        assertEquals(9, fromMatrix.weight(fromMatrix.firstEdge(1) + 1));
+    }
+
+    @Test
+    void testMemoryIsLinearInEdges() {
+        int n = 100_000;
+        CSRGraph.Builder builder = CSRGraph.builder(n);
+        Random rand = new Random(35);
+        for (int i = 0; i < 1_000_000; i++) builder.addEdge(rand.nextInt(n), rand.nextInt(n), rand.nextInt(100) + 1);
+        CSRGraph graph = builder.build();
+
+        assertEquals(1_000_000, graph.edgeCount());
+        assertEquals(4L * (n + 1 + 2 * 1_000_000), graph.memoryBytes());
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> CSRGraph.builder(2).addEdge(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> CSRGraph.builder(-1));
+        assertThrows(IllegalArgumentException.class, () -> CSRGraph.fromAdjacencyMatrix(new int[][]{{0, 1}}));
+        Map<Integer, List<Integer>> negative = new HashMap<>();
+        negative.put(-1, Collections.emptyList());
+        assertThrows(IllegalArgumentException.class, () -> CSRGraph.fromAdjacencyMap(negative));
+    }
+}
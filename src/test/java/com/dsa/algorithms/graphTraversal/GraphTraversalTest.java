@@ -1,5 +1,6 @@
 package com.dsa.algorithms.graphTraversal;
 
+import com.dsa.algorithms.graph.CSRGraph;
 import org.junit.jupiter.api.Test;
 import java.util.*;
 
@@ -49,4 +50,133 @@ public class GraphTraversalTest {
         assertEquals(Collections.singletonList(1), bfs.traverse(1), "BFS should just visit the start node");
         assertEquals(Collections.singletonList(1), dfs.traverse(1), "DFS should just visit the start node");
     }
+
+    @Test
+    void testCSRTraversalMatchesMap() {
+        Map<Integer, List<Integer>> graph = createSampleGraph();
+        CSRGraph csr = CSRGraph.fromAdjacencyMap(graph);
+
+        BFS bfs = new BFS(graph);
+        BFS csrBfs = new BFS(csr);
+        assertEquals(bfs.traverse(1), csrBfs.traverse(1));
+        assertEquals(bfs.getTraversalSteps(), csrBfs.getTraversalSteps());
+
+        DFS dfs = new DFS(graph);
+        DFS csrDfs = new DFS(csr);
+        assertEquals(dfs.traverse(1), csrDfs.traverse(1));
+        assertEquals(dfs.getTraversalSteps(), csrDfs.getTraversalSteps());
+
+        assertEquals(Collections.singletonList(42), new BFS(csr).traverse(42), "Unknown start is an isolated vertex");
+        assertEquals(Collections.singletonList(42), new DFS(csr).traverse(42), "Unknown start is an isolated vertex");
+    }
+
+    @Test
+    void testDFSStepsMatchRecursiveOrder() {
+        DFS dfs = new DFS(createSampleGraph());
+        dfs.traverse(1);
+
+        List<String> expected = Arrays.asList(
+                "Visited: 1", "Going deeper to: 2", "Visited: 2", "Going deeper to: 4", "Visited: 4",
+                "Going deeper to: 5", "Visited: 5", "Going deeper to: 3", "Visited: 3",
+                "Going deeper to: 6", "Visited: 6");
+        assertEquals(expected, dfs.getTraversalSteps());
+    }
+
+    @Test
+    void testDFSDeepPathDoesNotOverflow() {
+        int n = 1_000_000;
+        CSRGraph.Builder builder = CSRGraph.builder(n);
+        Map<Integer, List<Integer>> graph = new HashMap<>();
+        for (int i = 0; i + 1 < n; i++) {
+            builder.addEdge(i, i + 1);
+            if (i < 100_000) graph.put(i, Collections.singletonList(i + 1));
+        }
+
+        List<Integer> path = new DFS(builder.build(), false).traverse(0);
+        assertEquals(n, path.size());
+        assertEquals(n - 1, path.get(n - 1).intValue());
+
+        DFS mapDfs = new DFS(graph);
+        assertEquals(100_001, mapDfs.traverse(0).size());
+        assertEquals(2 * 100_001 - 1, mapDfs.getTraversalSteps().size());
+    }
+
+    @Test
+    void testDFSEdgeClassification() {
+        // 0 -> 1 -> 2 -> 0 is a cycle, 0 -> 2 skips ahead, 3 -> 1 reaches into the first tree
+        CSRGraph csr = CSRGraph.builder(4)
+                .addEdge(0, 1).addEdge(0, 2).addEdge(1, 2).addEdge(2, 0).addEdge(3, 1)
+                .build();
+        Map<Integer, List<Integer>> graph = new HashMap<>();
+        graph.put(0, Arrays.asList(1, 2));
+        graph.put(1, Collections.singletonList(2));
+        graph.put(2, Collections.singletonList(0));
+        graph.put(3, Collections.singletonList(1));
+
+        for (DFS dfs : Arrays.asList(new DFS(csr, false), new DFS(graph, false))) {
+            List<String> events = new ArrayList<>();
+            dfs.traverseAll(new DFS.Visitor() {
+                @Override
+                public void preOrder(int vertex) {
+                    events.add("pre " + vertex);
+                }
+
+                @Override
+                public void postOrder(int vertex) {
+                    events.add("post " + vertex);
+                }
+
+                @Override
+                public void edge(int from, int to, DFS.EdgeType type) {
+                    events.add(from + "->" + to + " " + type);
+                }
+            });
+            assertEquals(Arrays.asList(
+                    "pre 0", "0->1 TREE", "pre 1", "1->2 TREE", "pre 2", "2->0 BACK", "post 2", "post 1",
+                    "0->2 FORWARD", "post 0", "pre 3", "3->1 CROSS", "post 3"), events);
+            assertTrue(dfs.getTraversalSteps().isEmpty(), "Tracing disabled");
+        }
+    }
+
+    @Test
+    void testDFSPostOrderGivesStronglyConnectedComponents() {
+        // Kosaraju: finish order on the graph, then search the transpose in reverse finish order
+        int[][] edges = {{0, 1}, {1, 2}, {2, 0}, {2, 3}, {3, 4}, {4, 5}, {5, 3}, {6, 5}};
+        CSRGraph.Builder forward = CSRGraph.builder(7);
+        CSRGraph.Builder backward = CSRGraph.builder(7);
+        for (int[] e : edges) {
+            forward.addEdge(e[0], e[1]);
+            backward.addEdge(e[1], e[0]);
+        }
+
+        List<Integer> finish = new ArrayList<>();
+        new DFS(forward.build(), false).traverseAll(new DFS.Visitor() {
+            @Override
+            public void postOrder(int vertex) {
+                finish.add(vertex);
+            }
+        });
+
+        DFS transposed = new DFS(backward.build(), false);
+        int[] component = new int[7];
+        Arrays.fill(component, -1);
+        int count = 0;
+        for (int i = finish.size() - 1; i >= 0; i--) {
+            if (component[finish.get(i)] >= 0) continue;
+            int id = count++;
+            transposed.traverse(finish.get(i), new DFS.Visitor() {
+                // Unclaimed vertices reachable in the transpose are exactly the root's component
+                @Override
+                public void preOrder(int vertex) {
+                    if (component[vertex] < 0) component[vertex] = id;
+                }
+            });
+        }
+        assertEquals(component[0], component[1]);
+        assertEquals(component[1], component[2]);
+        assertEquals(component[3], component[4]);
+        assertEquals(component[4], component[5]);
+        assertNotEquals(component[0], component[3]);
+        assertNotEquals(component[3], component[6]);
+    }
 }
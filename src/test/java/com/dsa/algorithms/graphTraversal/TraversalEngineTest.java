@@ -0,0 +1,92 @@
+package com.dsa.algorithms.graphTraversal;
+
+import com.dsa.algorithms.graph.CSRGraph;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TraversalEngineTest {
+
+    private CSRGraph randomGraph(int n, int edges, long seed) {
+        Random rand = new Random(seed);
+        CSRGraph.Builder builder = CSRGraph.builder(n);
+        for (int i = 0; i < edges; i++) builder.addEdge(rand.nextInt(n), rand.nextInt(n));
+        return builder.build();
+    }
+
+    private List<Integer> boxed(int[] order) {
+        List<Integer> list = new ArrayList<>();
+        for (int v : order) list.add(v);
+        return list;
+    }
+
+    @Test
+    void testOrdersMatchBFSAndDFS() {
+        TraversalEngine engine = new TraversalEngine();
+        for (int trial = 0; trial < 30; trial++) {
+            CSRGraph graph = randomGraph(1 + trial * 7, trial * 12, trial);
+            int start = trial % graph.vertexCount();
+
+            engine.bfs(graph, start);
+            assertEquals(new BFS(graph).traverse(start), boxed(engine.copyOrder()));
+            engine.dfs(graph, start);
+            assertEquals(new DFS(graph).traverse(start), boxed(engine.copyOrder()));
+        }
+    }
+
+    @Test
+    void testWorkspaceIsReusedAndCleared() {
+        TraversalEngine engine = new TraversalEngine();
+        CSRGraph big = randomGraph(10_000, 40_000, 1);
+        assertTrue(engine.bfs(big, 0) > 9_000);
+        long bytes = engine.workspaceBytes();
+
+        // A smaller graph reuses the arrays and sees none of the previous marks
+        CSRGraph small = CSRGraph.builder(200).addEdge(0, 1).addEdge(1, 2).addEdge(150, 0).build();
+        assertEquals(3, engine.bfs(small, 0));
+        assertEquals(bytes, engine.workspaceBytes());
+        assertTrue(engine.isVisited(2));
+        assertFalse(engine.isVisited(150));
+        assertFalse(engine.isVisited(3));
+
+        assertEquals(4, engine.dfs(small, 150));
+        assertEquals(150, engine.vertexAt(0));
+        assertEquals(2, engine.vertexAt(3));
+        assertEquals(bytes, engine.workspaceBytes());
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.vertexAt(4));
+    }
+
+    @Test
+    void testDeepPath() {
+        int n = 2_000_000;
+        CSRGraph.Builder builder = CSRGraph.builder(n);
+        for (int i = 0; i + 1 < n; i++) builder.addEdge(i, i + 1);
+        CSRGraph path = builder.build();
+
+        TraversalEngine engine = new TraversalEngine();
+        assertEquals(n, engine.dfs(path, 0));
+        assertEquals(n - 1, engine.vertexAt(n - 1));
+        assertEquals(n, engine.bfs(path, 0));
+    }
+
+    @Test
+    void testUntracedTraversalsUseEngine() {
+        CSRGraph graph = randomGraph(500, 2_000, 7);
+        BFS bfs = new BFS(graph, false);
+        DFS dfs = new DFS(graph, false);
+        assertEquals(new BFS(graph).traverse(3), bfs.traverse(3));
+        assertEquals(new DFS(graph).traverse(3), dfs.traverse(3));
+        assertTrue(bfs.getTraversalSteps().isEmpty());
+        assertTrue(dfs.getTraversalSteps().isEmpty());
+    }
+
+    @Test
+    void testInvalidStart() {
+        TraversalEngine engine = new TraversalEngine();
+        CSRGraph graph = CSRGraph.builder(3).build();
+        assertThrows(IllegalArgumentException.class, () -> engine.bfs(graph, 3));
+        assertThrows(IllegalArgumentException.class, () -> engine.dfs(graph, -1));
+        assertThrows(IllegalArgumentException.class, () -> engine.bfs(null, 0));
+    }
+}
@@ -1,5 +1,7 @@
 package com.dsa.algorithms.greedy;
 
+import java.util.Random;
+import com.dsa.algorithms.graph.CSRGraph;
 import org.junit.jupiter.api.Test;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,4 +64,25 @@ public class DijkstraAlgorithmTestJUnit {
         assertTrue(steps.size() > 0, "Steps should be recorded during computation");
         assertTrue(steps.get(0).distance.length == graph.length, "Each step should snapshot correct vertex count");
     }
+
+    @Test
+    void testCSRMatchesMatrix() {
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+        Random rand = new Random(23);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 1 + rand.nextInt(30);
+            int[][] graph = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (rand.nextInt(4) == 0) graph[i][j] = graph[j][i] = 1 + rand.nextInt(20);
+                }
+            }
+            int source = rand.nextInt(n);
+            int[] expected = dijkstra.findShortestPaths(graph, source);
+            assertArrayEquals(expected, dijkstra.findShortestPaths(CSRGraph.fromAdjacencyMatrix(graph), source));
+            assertTrue(dijkstra.getSteps().isEmpty(), "CSR overload records no steps");
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> dijkstra.findShortestPaths(CSRGraph.builder(2).build(), 2));
+    }
 }
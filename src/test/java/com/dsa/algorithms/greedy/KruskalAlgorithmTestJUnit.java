@@ -1,5 +1,6 @@
 package com.dsa.algorithms.greedy;
 
+import com.dsa.algorithms.graph.CSRGraph;
 import org.junit.jupiter.api.Test;
 import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -80,4 +81,25 @@ public class KruskalAlgorithmTestJUnit {
         assertEquals(1, mst.size(), "Only one edge should be included.");
         assertEquals(1, totalCost, "Total cost should be 1.");
     }
+
+    @Test
+    void testCSRMatchesMatrix() {
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        Random rand = new Random(29);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 1 + rand.nextInt(30);
+            int[][] graph = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (rand.nextInt(3) == 0) graph[i][j] = graph[j][i] = 1 + rand.nextInt(5);
+                }
+            }
+            List<int[]> expected = kruskal.findMST(graph);
+            List<int[]> actual = kruskal.findMST(CSRGraph.fromAdjacencyMatrix(graph));
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertArrayEquals(expected.get(i), actual.get(i), "Equal weights keep matrix order");
+            }
+        }
+    }
 }
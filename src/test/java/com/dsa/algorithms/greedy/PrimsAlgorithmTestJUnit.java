@@ -1,5 +1,7 @@
 package com.dsa.algorithms.greedy;
 
+import java.util.Random;
+import com.dsa.algorithms.graph.CSRGraph;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import java.util.List;
@@ -92,4 +94,24 @@ public class PrimsAlgorithmTestJUnit {
         PrimsAlgorithm.Step firstStep = steps.get(0);
         assertTrue(firstStep.currentKey.length == graph.length, "Each step must snapshot the full key array");
     }
+
+    @Test
+    public void testPrimsAlgorithm_CSRMatchesMatrix() {
+        PrimsAlgorithm prims = new PrimsAlgorithm();
+        Random rand = new Random(31);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 1 + rand.nextInt(30);
+            int[][] graph = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (rand.nextInt(3) == 0) graph[i][j] = graph[j][i] = 1 + rand.nextInt(5);
+                }
+            }
+            CSRGraph csr = CSRGraph.fromAdjacencyMatrix(graph);
+            int[] expected = prims.findMST(graph);
+            int[] actual = prims.findMST(csr);
+            assertArrayEquals(expected, actual, "Same tie-breaking as the matrix version");
+            assertEquals(prims.getMSTCost(graph, expected), prims.getMSTCost(csr, actual));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.dsa.algorithms.greedy;
 
+import com.dsa.algorithms.graph.CSRGraph;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import java.util.*;
@@ -86,4 +87,23 @@ public class TopologicalOrderingTestJUnit {
         assertTrue(firstStep.inDegree.length == graph.size(),
                    "Each step must snapshot full in-degree array");
     }
+
+    @Test
+    public void testTopologicalOrdering_CSRMatchesList() {
+        TopologicalOrdering topo = new TopologicalOrdering();
+
+        List<List<Integer>> dag = new ArrayList<>();
+        for (int i = 0; i < 6; i++) dag.add(new ArrayList<>());
+        dag.get(5).add(2);
+        dag.get(5).add(0);
+        dag.get(4).add(0);
+        dag.get(4).add(1);
+        dag.get(2).add(3);
+        dag.get(3).add(1);
+        assertEquals(topo.findTopologicalOrder(dag), topo.findTopologicalOrder(CSRGraph.fromAdjacencyList(dag)));
+        assertTrue(topo.getSteps().isEmpty(), "CSR overload records no steps");
+
+        dag.get(1).add(5);
+        assertTrue(topo.findTopologicalOrder(CSRGraph.fromAdjacencyList(dag)).isEmpty(), "Cycle gives an empty order");
+    }
 }
@@ -0,0 +1,82 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BatchSearchTest {
+
+    private static int[] expected(int[] sorted, int[] targets) {
+        int[] result = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            int lo = 0, hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < targets[i]) lo = mid + 1;
+                else hi = mid;
+            }
+            result[i] = lo < sorted.length && sorted[lo] == targets[i] ? lo : -1;
+        }
+        return result;
+    }
+
+    @Test
+    void testEveryStrategyMatchesFirstOccurrence() {
+        BatchSearch batch = new BatchSearch(new ForkJoinPool(4), 64);
+        Random rand = new Random(21);
+        for (int n : new int[]{0, 1, 2, 15, 16, 17, 100, 5000}) {
+            int[] sorted = rand.ints(n, 0, Math.max(1, n)).sorted().toArray();
+            int[] targets = rand.ints(1000, -5, n + 5).toArray();
+            int[] ascending = targets.clone();
+            Arrays.sort(ascending);
+
+            int[] want = expected(sorted, targets);
+            assertArrayEquals(want, batch.searchAll(sorted, targets, BatchSearch.Strategy.INTERLEAVED), "n=" + n);
+            assertArrayEquals(want, batch.searchAll(sorted, targets, BatchSearch.Strategy.PARALLEL), "n=" + n);
+            assertArrayEquals(want, batch.searchAll(sorted, targets), "n=" + n);
+
+            int[] wantSorted = expected(sorted, ascending);
+            assertArrayEquals(wantSorted, batch.searchAll(sorted, ascending, BatchSearch.Strategy.SWEEP), "n=" + n);
+            assertArrayEquals(wantSorted, batch.searchAll(sorted, ascending, BatchSearch.Strategy.PARALLEL), "n=" + n);
+            assertArrayEquals(wantSorted, batch.searchAll(sorted, ascending), "n=" + n);
+        }
+    }
+
+    @Test
+    void testSweepGallopsAcrossLargeGaps() {
+        int[] sorted = new int[1_000_000];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = 3 * i;
+        int[] targets = {-1, 0, 3, 2_999_997, 2_999_997, 3_000_000};
+
+        assertArrayEquals(new int[]{-1, 0, 1, 999_999, 999_999, -1},
+                new BatchSearch().searchAll(sorted, targets, BatchSearch.Strategy.SWEEP));
+    }
+
+    @Test
+    void testAgreesWithBinarySearchOnDistinctKeys() {
+        int[] sorted = new Random(22).ints(200_000).sorted().distinct().toArray();
+        int[] targets = new int[50_000];
+        Random rand = new Random(23);
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = rand.nextBoolean() ? sorted[rand.nextInt(sorted.length)] : rand.nextInt();
+        }
+        Searchable binary = new BinarySearch(false);
+        int[] results = new BatchSearch().searchAll(sorted, targets);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(binary.search(sorted, targets[i]), results[i]);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        BatchSearch batch = new BatchSearch();
+        assertThrows(IllegalArgumentException.class, () -> batch.searchAll(null, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> batch.searchAll(new int[]{1}, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> batch.searchAll(new int[]{1, 2}, new int[]{2, 1}, BatchSearch.Strategy.SWEEP));
+        assertThrows(IllegalArgumentException.class, () -> new BatchSearch(ForkJoinPool.commonPool(), 1));
+        assertEquals(0, batch.searchAll(new int[]{1}, new int[0]).length);
+    }
+}
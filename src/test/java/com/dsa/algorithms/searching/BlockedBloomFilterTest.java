@@ -0,0 +1,55 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class BlockedBloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        int[] keys = new Random(30).ints(100_000).toArray();
+        BlockedBloomFilter filter = BlockedBloomFilter.of(keys, 0.01);
+        for (int key : keys) assertTrue(filter.mightContain(key));
+    }
+
+    @Test
+    void testFalsePositiveRateNearTarget() {
+        int[] keys = new Random(31).ints(100_000).toArray();
+        Set<Integer> present = IntStream.of(keys).boxed().collect(Collectors.toSet());
+        for (double rate : new double[]{0.1, 0.01, 0.001}) {
+            BlockedBloomFilter filter = BlockedBloomFilter.of(keys, rate);
+            Random rand = new Random(32);
+            int tested = 0, falsePositives = 0;
+            while (tested < 200_000) {
+                int probe = rand.nextInt();
+                if (present.contains(probe)) continue;
+                tested++;
+                if (filter.mightContain(probe)) falsePositives++;
+            }
+            double observed = (double) falsePositives / tested;
+            assertTrue(observed < rate * 1.5, "rate " + rate + " observed " + observed);
+        }
+    }
+
+    @Test
+    void testSizing() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(1000, 0.01);
+        // ~9.6 bits per key for 1%, plus the blocking allowance, rounded up to whole 512-bit blocks
+        assertTrue(filter.getBitCount() >= 9600 && filter.getBitCount() <= 12_800, "bits " + filter.getBitCount());
+        assertTrue(filter.getHashCount() >= 5 && filter.getHashCount() <= 7, "k " + filter.getHashCount());
+        assertTrue(BlockedBloomFilter.blockedFalsePositiveRate(10, 6) <= 0.01);
+        assertFalse(new BlockedBloomFilter(0, 0.5).mightContain(42));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(-1, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> BlockedBloomFilter.of(null, 0.01));
+    }
+}
@@ -0,0 +1,32 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExponentialSearchTest {
+
+    @Test
+    void testMatchesBinarySearchOnDistinctKeys() {
+        Searchable exponential = new ExponentialSearch(false);
+        Searchable binary = new BinarySearch(false);
+        for (int n = 0; n <= 70; n++) {
+            int[] sorted = new int[n];
+            for (int i = 0; i < n; i++) sorted[i] = 2 * i + 1;
+            for (int target = -1; target <= 2 * n + 1; target++) {
+                assertEquals(binary.search(sorted, target), exponential.search(sorted, target), "n=" + n + " target=" + target);
+            }
+        }
+    }
+
+    @Test
+    void testProbesStayNearTheFront() {
+        int[] sorted = new int[1_000_000];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = i;
+        ExponentialSearch search = new ExponentialSearch();
+
+        assertEquals(5, search.search(sorted, 5));
+        for (int step : search.getSearchSteps()) assertTrue(step <= 11, "probed " + step);
+        // Doublings 0, 1, 3, 7, then binary search of [4, 6]
+        assertArrayEquals(new int[]{0, 1, 3, 7, 5}, search.getSearchSteps());
+    }
+}
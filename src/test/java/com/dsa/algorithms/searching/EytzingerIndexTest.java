@@ -0,0 +1,102 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+public class EytzingerIndexTest {
+
+    @Test
+    void testMatchesBinarySearchOnDistinctKeys() {
+        Searchable binary = new BinarySearch(false);
+        for (int n = 0; n <= 70; n++) {
+            int[] sorted = new int[n];
+            for (int i = 0; i < n; i++) sorted[i] = 2 * i + 1;
+            EytzingerIndex index = new EytzingerIndex(sorted);
+
+            for (int target = -1; target <= 2 * n + 1; target++) {
+                assertEquals(binary.search(sorted, target), index.indexOf(target), "n=" + n + " target=" + target);
+            }
+        }
+    }
+
+    @Test
+    void testLargeRandomArray() {
+        int[] sorted = new Random(19).ints(1_000_000).sorted().distinct().toArray();
+        EytzingerIndex index = new EytzingerIndex(sorted);
+        Random rand = new Random(20);
+        for (int i = 0; i < 10_000; i++) {
+            int target = rand.nextBoolean() ? sorted[rand.nextInt(sorted.length)] : rand.nextInt();
+            int expected = Arrays.binarySearch(sorted, target);
+            assertEquals(expected < 0 ? -1 : expected, index.indexOf(target));
+        }
+    }
+
+    @Test
+    void testDuplicatesReturnFirstOccurrenceAndLowerBound() {
+        int[] sorted = {1, 3, 3, 3, 5, 5, 9};
+        EytzingerIndex index = new EytzingerIndex(sorted);
+
+        assertEquals(1, index.indexOf(3));
+        assertEquals(4, index.indexOf(5));
+        assertEquals(-1, index.indexOf(4));
+        assertEquals(0, index.lowerBound(0));
+        assertEquals(4, index.lowerBound(4));
+        assertEquals(7, index.lowerBound(10));
+    }
+
+    @Test
+    void testTraceUsesLogicalPositions() {
+        int[] sorted = {11, 22, 34, 45, 56, 67, 78, 89, 90};
+        EytzingerIndex index = new EytzingerIndex(sorted);
+        StepBuffer trace = new StepBuffer();
+
+        assertEquals(4, index.indexOf(56, trace));
+        // Root is the median of the in-order layout, then the path narrows like binary search
+        assertEquals(5, trace.get(0));
+        for (int i = 0; i < trace.size(); i++) {
+            assertTrue(trace.get(i) >= 0 && trace.get(i) < sorted.length);
+        }
+
+        Searchable searchable = new EytzingerIndex(sorted);
+        assertEquals(4, searchable.search(sorted, 56));
+        assertArrayEquals(trace.toArray(), searchable.getSearchSteps());
+    }
+
+    @Test
+    void testForeignArrayUsesLowerBoundBinarySearch() {
+        int[] sorted = {11, 22, 34, 45, 56, 67, 78, 89, 90};
+        Searchable searchable = new EytzingerIndex();
+        StepBuffer expected = new StepBuffer();
+        RangeQuery.lowerBound(sorted, 56, expected);
+
+        assertEquals(4, searchable.search(sorted, 56));
+        assertArrayEquals(expected.toArray(), searchable.getSearchSteps());
+        assertEquals(-1, searchable.search(sorted, 57));
+        assertEquals(-1, searchable.search(null, 56));
+
+        // An index built over another array does not validate or copy the one it is handed
+        Searchable other = new EytzingerIndex(new int[]{1, 2, 3});
+        assertEquals(1, other.search(new int[]{5, 7, 7, 7, 9}, 7));
+        assertEquals(-1, other.search(new int[]{3, 1, 2}, 9));
+    }
+
+    @Test
+    void testUntracedSearchRecordsNoSteps() {
+        int[] sorted = {1, 3, 5, 7, 9, 11};
+        EytzingerIndex index = new EytzingerIndex(sorted, false);
+        assertFalse(index.isTracing());
+        assertEquals(3, index.search(sorted, 7));
+        assertEquals(0, index.getSearchSteps().length);
+
+        Searchable foreign = new EytzingerIndex(false);
+        assertEquals(4, foreign.search(sorted, 9));
+        assertEquals(0, foreign.getSearchSteps().length);
+    }
+
+    @Test
+    void testRejectsUnsortedArray() {
+        assertThrows(IllegalArgumentException.class, () -> new EytzingerIndex(new int[]{3, 1, 2}));
+    }
+}
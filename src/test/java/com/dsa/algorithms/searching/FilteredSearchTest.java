@@ -0,0 +1,76 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+public class FilteredSearchTest {
+
+    @Test
+    void testResultsMatchTheWrappedSearch() {
+        int[] sorted = new Random(33).ints(10_000, 0, 1_000_000).sorted().distinct().toArray();
+        Searchable binary = new BinarySearch(false);
+        FilteredSearch filtered = new FilteredSearch(new BinarySearch(), sorted);
+        Random rand = new Random(34);
+        for (int i = 0; i < 20_000; i++) {
+            int target = rand.nextBoolean() ? sorted[rand.nextInt(sorted.length)] : rand.nextInt(1_000_000);
+            assertEquals(binary.search(sorted, target), filtered.search(sorted, target));
+        }
+        assertEquals(20_000, filtered.getLookups());
+    }
+
+    @Test
+    void testMissesShortCircuitAndStatisticsAddUp() {
+        int[] data = {42, 7, 19, 3, 88};
+        FilteredSearch filtered = new FilteredSearch(new LinearSearch(), data, 0.001);
+
+        assertEquals(2, filtered.search(data, 19));
+        assertEquals(3, filtered.getSearchSteps().length);
+        int misses = 0;
+        for (int target = 1000; target < 11_000; target++) {
+            assertEquals(-1, filtered.search(data, target));
+            if (filtered.getSearchSteps().length == 0) misses++;
+        }
+
+        assertEquals(1, filtered.getHits());
+        assertEquals(misses, filtered.getFilteredOut());
+        assertEquals(10_000 - misses, filtered.getFalsePositives());
+        assertTrue(filtered.getObservedFalsePositiveRate() < 0.01, filtered.toString());
+
+        // Other arrays are searched without the filter
+        assertEquals(0, filtered.search(new int[]{5000}, 5000));
+        assertEquals(1, filtered.getUnfilteredLookups());
+
+        filtered.resetStatistics();
+        assertEquals(0, filtered.getLookups());
+    }
+
+    @Test
+    void testFindGoesThroughTheFilter() {
+        int[] sorted = {1, 2, 3};
+        FilteredSearch filtered = new FilteredSearch(new BinarySearch(), sorted);
+        assertEquals(SearchResult.of(1), filtered.find(sorted, 2));
+        filtered.find(sorted, 500);
+        assertEquals(2, filtered.getLookups());
+        assertThrows(IllegalArgumentException.class, () -> new FilteredSearch(null, sorted));
+    }
+
+    @Test
+    void testUntracedSearchRecordsNoSteps() {
+        int[] sorted = {1, 3, 5, 7, 9};
+        FilteredSearch filtered = new FilteredSearch(new BinarySearch(false), sorted, false);
+        assertFalse(filtered.isTracing());
+        assertTrue(new FilteredSearch(new BinarySearch(false), sorted).isTracing());
+
+        assertEquals(3, filtered.search(sorted, 7));
+        assertEquals(0, filtered.getSearchSteps().length);
+        assertEquals(-1, filtered.search(new int[]{2, 4}, 3));
+        assertEquals(0, filtered.getSearchSteps().length);
+        assertEquals(2, filtered.getLookups() + filtered.getUnfilteredLookups());
+
+        // An untraced wrapper silences a tracing delegate too
+        FilteredSearch overTraced = new FilteredSearch(new BinarySearch(), sorted, 0.01, false);
+        assertEquals(0, overTraced.search(sorted, 1));
+        assertEquals(0, overTraced.getSearchSteps().length);
+    }
+}
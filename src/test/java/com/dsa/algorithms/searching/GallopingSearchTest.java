@@ -0,0 +1,39 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GallopingSearchTest {
+
+    @Test
+    void testEveryHintFindsTheSameAnswer() {
+        GallopingSearch galloping = new GallopingSearch(false);
+        Searchable binary = new BinarySearch(false);
+        for (int n = 0; n <= 40; n++) {
+            int[] sorted = new int[n];
+            for (int i = 0; i < n; i++) sorted[i] = 2 * i + 1;
+            for (int hint = -1; hint <= n; hint++) {
+                for (int target = -1; target <= 2 * n + 1; target++) {
+                    assertEquals(binary.search(sorted, target), galloping.search(sorted, target, hint, null),
+                            "n=" + n + " hint=" + hint + " target=" + target);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFingerFollowsNearbyLookups() {
+        int[] sorted = new int[1 << 20];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = 2 * i;
+        GallopingSearch search = new GallopingSearch();
+
+        assertEquals(500_000, search.search(sorted, 1_000_000));
+        assertEquals(500_000, search.getFinger());
+        // Next key is three slots away: 5 probes instead of ~20
+        assertEquals(500_003, search.search(sorted, 1_000_006));
+        assertTrue(search.getSearchSteps().length <= 5, "probes: " + search.getSearchSteps().length);
+        // A miss leaves the finger at the insertion point
+        assertEquals(-1, search.search(sorted, 999_999));
+        assertEquals(500_000, search.getFinger());
+    }
+}
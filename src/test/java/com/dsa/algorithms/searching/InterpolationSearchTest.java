@@ -0,0 +1,66 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+public class InterpolationSearchTest {
+
+    @Test
+    void testFindsEveryKeyAndRejectsGaps() {
+        Searchable search = new InterpolationSearch(false);
+        for (int n = 0; n <= 40; n++) {
+            int[] sorted = new int[n];
+            for (int i = 0; i < n; i++) sorted[i] = 3 * i + 1;
+            for (int target = -2; target <= 3 * n + 2; target++) {
+                int expected = target % 3 == 1 && target > 0 && target < 3 * n ? (target - 1) / 3 : -1;
+                assertEquals(expected, search.search(sorted, target), "n=" + n + " target=" + target);
+            }
+        }
+    }
+
+    @Test
+    void testUniformKeysNeedFewProbes() {
+        int[] sorted = new Random(24).ints(1 << 20).sorted().toArray();
+        InterpolationSearch search = new InterpolationSearch();
+        Random rand = new Random(25);
+        long probes = 0;
+        for (int i = 0; i < 1000; i++) {
+            int index = rand.nextInt(sorted.length);
+            assertEquals(sorted[index], sorted[search.search(sorted, sorted[index])]);
+            probes += search.getSearchSteps().length;
+        }
+        // Binary search needs about 20 probes per lookup here
+        assertTrue(probes < 1000 * 8, "average probes: " + probes / 1000.0);
+    }
+
+    @Test
+    void testSkewedKeysFallBackToBinarySearch() {
+        // One huge outlier makes every interpolated probe land at the front
+        int n = 1 << 16;
+        int[] sorted = new int[n];
+        for (int i = 0; i < n - 1; i++) sorted[i] = i;
+        sorted[n - 1] = Integer.MAX_VALUE;
+        InterpolationSearch search = new InterpolationSearch();
+
+        int bound = InterpolationSearch.probeBudget(n) + 17;
+        for (int target : new int[]{n - 2, n / 2, 12345, Integer.MAX_VALUE, -1, n + 5}) {
+            int index = search.search(sorted, target);
+            int expected = Arrays.binarySearch(sorted, target);
+            assertEquals(expected < 0 ? -1 : expected, index);
+            assertTrue(search.getSearchSteps().length <= bound, "probes: " + search.getSearchSteps().length);
+        }
+    }
+
+    @Test
+    void testExtremeValuesAndDuplicates() {
+        Searchable search = new InterpolationSearch();
+        int[] extremes = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        for (int i = 0; i < extremes.length; i++) assertEquals(i, search.search(extremes, extremes[i]));
+
+        int[] same = {4, 4, 4, 4};
+        assertEquals(0, search.search(same, 4));
+        assertEquals(-1, search.search(same, 5));
+    }
+}
@@ -0,0 +1,116 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+public class LearnedIndexTest {
+
+    private static int firstOccurrence(int[] sorted, int target) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < target) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo < sorted.length && sorted[lo] == target ? lo : -1;
+    }
+
+    @Test
+    void testMatchesBinarySearchOnSmallArrays() {
+        Searchable binary = new BinarySearch(false);
+        for (int n = 0; n <= 70; n++) {
+            int[] sorted = new int[n];
+            for (int i = 0; i < n; i++) sorted[i] = i * i;
+            LearnedIndex index = new LearnedIndex(sorted, 1);
+            for (int target = -1; target <= n * n + 1; target++) {
+                assertEquals(binary.search(sorted, target), index.indexOf(target), "n=" + n + " target=" + target);
+            }
+        }
+    }
+
+    @Test
+    void testRandomAndSkewedKeysWithDuplicates() {
+        Random rand = new Random(27);
+        int[][] inputs = {
+                rand.ints(200_000).sorted().toArray(),
+                rand.ints(200_000, 0, 5000).sorted().toArray(),
+                rand.doubles(200_000).mapToInt(d -> (int) Math.exp(d * 21)).sorted().toArray(),
+                new int[]{Integer.MIN_VALUE, -3, 0, 0, 0, 5, Integer.MAX_VALUE}
+        };
+        for (int[] sorted : inputs) {
+            for (int epsilon : new int[]{1, 8, LearnedIndex.DEFAULT_EPSILON}) {
+                LearnedIndex index = new LearnedIndex(sorted, epsilon);
+                for (int i = 0; i < 5000; i++) {
+                    int target = rand.nextBoolean() ? sorted[rand.nextInt(sorted.length)] : rand.nextInt();
+                    assertEquals(firstOccurrence(sorted, target), index.indexOf(target), index + " target=" + target);
+                }
+                for (int target : sorted) assertEquals(firstOccurrence(sorted, target), index.indexOf(target));
+            }
+        }
+    }
+
+    @Test
+    void testModelIsSmallAndLookupsProbeLittle() {
+        int[] sorted = new int[1_000_000];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = 7 * i + (i % 5);
+        LearnedIndex index = new LearnedIndex(sorted);
+
+        // Nearly linear keys: a handful of segments and a few levels
+        assertTrue(index.getSegmentCount() < 100, index.toString());
+        assertTrue(index.getModelBytes() < 16 * 200, index.toString());
+        assertTrue(index.getBuildNanos() > 0);
+
+        StepBuffer trace = new StepBuffer();
+        assertEquals(500_000, index.indexOf(sorted[500_000], trace));
+        // Binary search of a 2 * epsilon + 5 window: at most 8 probes
+        assertTrue(trace.size() <= 8, trace.toString());
+        assertTrue(index.averageLookupNanos(Arrays.copyOf(sorted, 1000)) > 0);
+    }
+
+    @Test
+    void testSearchableContract() {
+        int[] sorted = {2, 4, 6, 8, 10};
+        LearnedIndex index = new LearnedIndex(sorted);
+        assertEquals(3, index.search(sorted, 8));
+        assertTrue(index.getSearchSteps().length > 0);
+        assertEquals(1, new LearnedIndex().search(new int[]{1, 3, 5}, 3));
+        assertEquals(SearchResult.of(-1), index.find(sorted, 7));
+    }
+
+    @Test
+    void testForeignArrayUsesLowerBoundBinarySearch() {
+        int[] foreign = {5, 7, 7, 7, 9, 11};
+        LearnedIndex index = new LearnedIndex(new int[]{1, 2, 3});
+        StepBuffer expected = new StepBuffer();
+        RangeQuery.lowerBound(foreign, 7, expected);
+
+        assertEquals(1, index.search(foreign, 7));
+        assertArrayEquals(expected.toArray(), index.getSearchSteps());
+        assertEquals(-1, index.search(foreign, 8));
+        assertEquals(-1, index.search(null, 7));
+        // No model is fitted, so an unsorted array is not rejected
+        assertEquals(-1, index.search(new int[]{3, 1, 2}, 9));
+    }
+
+    @Test
+    void testUntracedSearchRecordsNoSteps() {
+        int[] sorted = {2, 4, 6, 8, 10};
+        LearnedIndex index = new LearnedIndex(sorted, LearnedIndex.DEFAULT_EPSILON, false);
+        assertFalse(index.isTracing());
+        assertEquals(3, index.search(sorted, 8));
+        assertEquals(0, index.getSearchSteps().length);
+
+        Searchable foreign = new LearnedIndex(false);
+        assertEquals(4, foreign.search(sorted, 10));
+        assertEquals(0, foreign.getSearchSteps().length);
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new int[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new int[]{1, 2}, 0));
+    }
+}
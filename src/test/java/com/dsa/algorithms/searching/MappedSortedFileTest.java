@@ -0,0 +1,86 @@
+package com.dsa.algorithms.searching;
+
+import com.dsa.algorithms.sorting.ExternalMergeSort.ElementType;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class MappedSortedFileTest {
+
+    private Path writeInts(Path dir, int[] values, ByteOrder order) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        for (int v : values) buf.putInt(v);
+        return Files.write(dir.resolve("keys.bin"), buf.array());
+    }
+
+    private Path writeLongs(Path dir, long[] values) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long v : values) buf.putLong(v);
+        return Files.write(dir.resolve("keys.bin"), buf.array());
+    }
+
+    private static int lowerBound(int[] sorted, int key) {
+        return RangeQuery.lowerBound(sorted, key);
+    }
+
+    @Test
+    void testIntsWithAndWithoutSparseIndex() throws IOException {
+        Path dir = Files.createTempDirectory("mapped");
+        int[] keys = new Random(29).ints(50_000, 0, 20_000).sorted().toArray();
+        Path file = writeInts(dir, keys, ByteOrder.LITTLE_ENDIAN);
+
+        for (int stride : new int[]{0, 1, 7, 4096, 100_000}) {
+            MappedSortedFile mapped = MappedSortedFile.open(file, ElementType.INT, ByteOrder.LITTLE_ENDIAN, stride);
+            assertEquals(keys.length, mapped.size());
+            for (int key = -2; key <= 20_002; key += 3) {
+                int expected = lowerBound(keys, key);
+                assertEquals(expected, mapped.lowerBound(key), "stride=" + stride + " key=" + key);
+                boolean present = expected < keys.length && keys[expected] == key;
+                assertEquals(present ? expected : -1, mapped.indexOf(key), "stride=" + stride + " key=" + key);
+            }
+        }
+    }
+
+    @Test
+    void testLongsAndByteOrder() throws IOException {
+        Path dir = Files.createTempDirectory("mapped");
+        long[] keys = {Long.MIN_VALUE, -5, 0, 1L << 40, 1L << 40, Long.MAX_VALUE};
+        MappedSortedFile mapped = MappedSortedFile.open(writeLongs(dir, keys), ElementType.LONG);
+        assertEquals(3, mapped.indexOf(1L << 40));
+        assertEquals(5, mapped.indexOf(Long.MAX_VALUE));
+        assertEquals(-1, mapped.indexOf(7));
+        assertEquals(Long.MIN_VALUE, mapped.get(0));
+
+        Path bigEndian = writeInts(Files.createTempDirectory("mapped"), new int[]{1, 256, 65536}, ByteOrder.BIG_ENDIAN);
+        MappedSortedFile be = MappedSortedFile.open(bigEndian, ElementType.INT, ByteOrder.BIG_ENDIAN, 2);
+        assertEquals(1, be.indexOf(256));
+        assertTrue(be.contains(65536));
+    }
+
+    @Test
+    void testSparseIndexSize() throws IOException {
+        Path dir = Files.createTempDirectory("mapped");
+        int[] keys = new int[10_000];
+        for (int i = 0; i < keys.length; i++) keys[i] = i;
+        MappedSortedFile mapped = MappedSortedFile.open(writeInts(dir, keys, ByteOrder.LITTLE_ENDIAN), ElementType.INT);
+        assertEquals(MappedSortedFile.DEFAULT_SPARSE_STRIDE, mapped.getSparseStride());
+        assertEquals(3 * Long.BYTES, mapped.getSparseIndexBytes());
+    }
+
+    @Test
+    void testEmptyAndInvalidFiles() throws IOException {
+        Path dir = Files.createTempDirectory("mapped");
+        MappedSortedFile empty = MappedSortedFile.open(Files.write(dir.resolve("empty.bin"), new byte[0]), ElementType.INT);
+        assertEquals(0, empty.size());
+        assertEquals(-1, empty.indexOf(3));
+
+        Path odd = Files.write(dir.resolve("odd.bin"), new byte[6]);
+        assertThrows(IllegalArgumentException.class, () -> MappedSortedFile.open(odd, ElementType.INT));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+    }
+}
@@ -0,0 +1,76 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+public class RangeQueryTest {
+
+    private final int[] sorted = {1, 3, 3, 3, 5, 5, 9};
+
+    @Test
+    void testBoundsWithDuplicates() {
+        assertEquals(0, RangeQuery.lowerBound(sorted, 0));
+        assertEquals(1, RangeQuery.lowerBound(sorted, 3));
+        assertEquals(4, RangeQuery.upperBound(sorted, 3));
+        assertEquals(4, RangeQuery.lowerBound(sorted, 4));
+        assertEquals(4, RangeQuery.upperBound(sorted, 4));
+        assertEquals(7, RangeQuery.lowerBound(sorted, 10));
+        assertEquals(7, RangeQuery.upperBound(sorted, 9));
+        assertEquals(0, RangeQuery.lowerBound(new int[0], 5));
+    }
+
+    @Test
+    void testCounts() {
+        assertEquals(3, RangeQuery.countEqual(sorted, 3));
+        assertEquals(0, RangeQuery.countEqual(sorted, 4));
+        assertEquals(5, RangeQuery.countInRange(sorted, 3, 9));
+        assertEquals(7, RangeQuery.countInRange(sorted, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, RangeQuery.countInRange(sorted, 5, 5));
+        assertEquals(0, RangeQuery.countInRange(sorted, 9, 1));
+    }
+
+    @Test
+    void testTraceRecordsEveryProbe() {
+        StepBuffer trace = new StepBuffer();
+        assertEquals(1, RangeQuery.lowerBound(sorted, 3, trace));
+        assertArrayEquals(new int[]{3, 1, 0}, trace.toArray());
+
+        trace.clear();
+        RangeQuery.countEqual(sorted, 5, trace);
+        assertTrue(trace.size() >= 4, trace.toString());
+    }
+
+    @Test
+    void testBatchedRangesMatchSingleQueries() {
+        Random rand = new Random(28);
+        int[] data = rand.ints(100_000, 0, 10_000).sorted().toArray();
+        int[] lows = new int[5000], highs = new int[5000];
+        for (int i = 0; i < lows.length; i++) {
+            lows[i] = rand.nextInt(10_200) - 100;
+            highs[i] = lows[i] + rand.nextInt(300) - 20;
+        }
+        lows[0] = Integer.MIN_VALUE;
+        highs[0] = Integer.MAX_VALUE;
+
+        int[] counts = RangeQuery.countInRanges(data, lows, highs);
+        for (int i = 0; i < lows.length; i++) {
+            assertEquals(RangeQuery.countInRange(data, lows[i], highs[i]), counts[i], "query " + i);
+        }
+        assertEquals(0, RangeQuery.countInRanges(data, new int[0], new int[0]).length);
+    }
+
+    @Test
+    void testHistogram() {
+        assertArrayEquals(new int[]{1, 3, 2, 0}, RangeQuery.histogram(sorted, new int[]{0, 2, 4, 6, 9}));
+        assertArrayEquals(new int[]{7}, RangeQuery.histogram(sorted, new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE}));
+        assertThrows(IllegalArgumentException.class, () -> RangeQuery.histogram(sorted, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> RangeQuery.histogram(sorted, new int[]{5, 1}));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> RangeQuery.lowerBound(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> RangeQuery.countInRanges(sorted, new int[1], new int[2]));
+    }
+}
@@ -2,6 +2,8 @@ package com.dsa.algorithms.searching;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
 
 public class SearchAlgorithmTest {
 
@@ -51,4 +53,60 @@ public class SearchAlgorithmTest {
 
         assertEquals(0, index, "Binary Search should find element at index 0");
     }
+
+    @Test
+    void testTraceIntoCallerBuffer() {
+        Searchable binary = new BinarySearch();
+        int[] data = {1, 3, 5, 7, 9, 11, 13};
+        StepBuffer trace = new StepBuffer(1);
+
+        assertEquals(4, binary.search(data, 9, trace));
+        assertArrayEquals(new int[]{3, 5, 4}, trace.toArray());
+
+        binary.search(data, 9);
+        assertArrayEquals(trace.toArray(), binary.getSearchSteps());
+
+        trace.clear();
+        assertEquals(-1, new LinearSearch().search(data, 4, trace));
+        assertEquals(data.length, trace.size());
+    }
+
+    @Test
+    void testUntracedSearchRecordsNothing() {
+        int[] data = {1, 3, 5, 7, 9, 11, 13};
+        Searchable binary = new BinarySearch(false);
+        Searchable linear = new LinearSearch(false);
+
+        assertEquals(6, binary.search(data, 13));
+        assertEquals(2, linear.search(data, 5));
+        assertEquals(0, binary.getSearchSteps().length);
+        assertEquals(0, linear.getSearchSteps().length);
+    }
+
+    @Test
+    void testHotLoopDoesNotAllocate() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        int[] data = new int[1024];
+        for (int i = 0; i < data.length; i++) data[i] = 2 * i;
+        Searchable binary = new BinarySearch(false);
+        Searchable traced = new BinarySearch();
+        StepBuffer trace = new StepBuffer();
+
+        long sum = 0;
+        for (int round = 0; round < 2; round++) {   // first round warms up and grows the buffers
+            long before = threads.getThreadAllocatedBytes(Thread.currentThread().threadId());
+            for (int i = 0; i < 200_000; i++) {
+                sum += binary.search(data, i & 2047);
+                sum += traced.search(data, i & 2047);
+                trace.clear();
+                sum += binary.search(data, i & 2047, trace);
+            }
+            long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().threadId()) - before;
+            if (round == 1) assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+        }
+        assertTrue(sum != 0);
+    }
 }
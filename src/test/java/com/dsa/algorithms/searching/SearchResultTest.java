@@ -0,0 +1,67 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SearchResultTest {
+
+    @Test
+    void testFindWithAndWithoutTrace() {
+        Searchable binary = new BinarySearch();
+        int[] data = {1, 3, 5, 7, 9, 11, 13};
+
+        SearchResult plain = binary.find(data, 9);
+        assertEquals(4, plain.getIndex());
+        assertTrue(plain.isFound());
+        assertFalse(plain.hasTrace());
+        assertEquals(0, plain.getSteps().length);
+
+        SearchResult traced = binary.find(data, 9, true);
+        assertArrayEquals(new int[]{3, 5, 4}, traced.getSteps());
+        assertEquals(5, traced.getStep(1));
+
+        SearchResult missing = new LinearSearch().find(data, 4, true);
+        assertFalse(missing.isFound());
+        assertEquals(-1, missing.getIndex());
+        assertEquals(data.length, missing.getStepCount());
+    }
+
+    @Test
+    void testResultIsImmutable() {
+        SearchResult result = new BinarySearch().find(new int[]{1, 2, 3}, 3, true);
+        int[] steps = result.getSteps();
+        steps[0] = 99;
+
+        assertNotEquals(99, result.getStep(0));
+        assertEquals(result, new BinarySearch().find(new int[]{1, 2, 3}, 3, true));
+    }
+
+    @Test
+    void testSharedInstanceUnderConcurrency() throws Exception {
+        int n = 4096;
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = 3 * i;
+        Searchable shared = new BinarySearch();
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 2000; t++) {
+                int target = 3 * ((t * 7919) % n);
+                results.add(pool.submit(() -> {
+                    SearchResult result = shared.find(data, target, true);
+                    StepBuffer expected = new StepBuffer();
+                    new BinarySearch(false).search(data, target, expected);
+                    return result.getIndex() == target / 3
+                            && Arrays.equals(result.getSteps(), expected.toArray());
+                }));
+            }
+        }
+        for (Future<Boolean> result : results) assertTrue(result.get());
+    }
+}
@@ -0,0 +1,36 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StepBufferTest {
+
+    @Test
+    void testGrowsAndKeepsOrder() {
+        StepBuffer buffer = new StepBuffer(2);
+        for (int i = 0; i < 100; i++) buffer.add(i * 3);
+
+        assertEquals(100, buffer.size());
+        assertEquals(297, buffer.get(99));
+        assertEquals(100, buffer.toArray().length);
+    }
+
+    @Test
+    void testClearKeepsBufferUsable() {
+        StepBuffer buffer = new StepBuffer();
+        buffer.add(5);
+        buffer.clear();
+
+        assertTrue(buffer.isEmpty());
+        assertArrayEquals(new int[]{}, buffer.toArray());
+        buffer.add(7);
+        assertArrayEquals(new int[]{7}, buffer.toArray());
+    }
+
+    @Test
+    void testInvalidAccess() {
+        StepBuffer buffer = new StepBuffer();
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new StepBuffer(0));
+    }
+}
@@ -0,0 +1,40 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+public class VectorLinearSearchTest {
+
+    private final Random rand = new Random(26);
+
+    @Test
+    void testMatchesLinearSearch() {
+        Searchable linear = new LinearSearch(false);
+        Searchable vector = new VectorLinearSearch();
+        for (int n = 0; n <= 100; n++) {
+            int[] arr = rand.ints(n, 0, 30).toArray();
+            for (int target = -1; target <= 30; target++) {
+                assertEquals(linear.search(arr, target), vector.search(arr, target), "n=" + n + " target=" + target);
+                assertEquals(linear.search(arr, target), vector.search(arr, target, null), "n=" + n + " target=" + target);
+            }
+        }
+    }
+
+    @Test
+    void testTraceRecordsBlockBoundaries() {
+        int block = VectorLinearSearch.blockSize();
+        int[] arr = new int[3 * block + 2];
+        for (int i = 0; i < arr.length; i++) arr[i] = i;
+        VectorLinearSearch search = new VectorLinearSearch();
+
+        assertEquals(2 * block + 1, search.search(arr, 2 * block + 1));
+        assertArrayEquals(new int[]{0, block, 2 * block, 2 * block + 1}, search.getSearchSteps());
+
+        assertEquals(block, search.search(arr, block));
+        assertArrayEquals(new int[]{0, block}, search.getSearchSteps());
+
+        assertEquals(-1, search.search(arr, -5));
+        assertArrayEquals(new int[]{0, block, 2 * block, 3 * block}, search.getSearchSteps());
+    }
+}
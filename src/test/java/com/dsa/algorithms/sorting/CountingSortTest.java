@@ -0,0 +1,68 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CountingSortTest {
+
+    private final Sortable algo = new CountingSort();
+
+    @Test
+    void testNormalSort() {
+        int[] arr = {4, 2, 2, 8, 3, 3, 1};
+        int[] expected = {1, 2, 2, 3, 3, 4, 8};
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testNegativeRange() {
+        int[] arr = {-2, 5, -7, 0, 5, -2};
+        int[] expected = {-7, -2, -2, 0, 5, 5};
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testParallelHistogram() {
+        int[] arr = new Random(10).ints(300_000, 0, 1000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testWideRangeFallsBackToRadix() {
+        int[] arr = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, 17};
+        int[] expected = {Integer.MIN_VALUE, 0, 17, Integer.MAX_VALUE};
+
+        new CountingSort(100, false).sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortWithSteps() {
+        int[] arr = {3, 1, 2, 1};
+        List<int[]> steps = algo.sortWithSteps(Arrays.copyOf(arr, arr.length));
+
+        // Initial state + one step per distinct value
+        assertEquals(4, steps.size());
+        assertArrayEquals(new int[]{3, 1, 2, 1}, steps.get(0));
+        assertArrayEquals(new int[]{1, 1, 2, 1}, steps.get(1));
+        assertArrayEquals(new int[]{1, 1, 2, 3}, steps.get(3));
+    }
+
+    @Test
+    void testEmptyArray() {
+        int[] arr = {};
+        algo.sort(arr);
+        assertArrayEquals(new int[]{}, arr);
+    }
+}
@@ -0,0 +1,142 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExternalMergeSortTest {
+
+    private Path writeInts(Path dir, int[] values) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int v : values) buf.putInt(v);
+        return Files.write(dir.resolve("input.bin"), buf.array());
+    }
+
+    private Path writeLongs(Path dir, long[] values) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long v : values) buf.putLong(v);
+        return Files.write(dir.resolve("input.bin"), buf.array());
+    }
+
+    private int[] readInts(Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        int[] values = new int[buf.remaining() / Integer.BYTES];
+        buf.asIntBuffer().get(values);
+        return values;
+    }
+
+    private long[] readLongs(Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        long[] values = new long[buf.remaining() / Long.BYTES];
+        buf.asLongBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    void testIntsAcrossManyRuns() throws IOException {
+        Path dir = Files.createTempDirectory("extsort");
+        // Run counts that are not powers of two exercise every shape of the loser tree
+        for (int chunkInts : new int[]{1000, 777, 250, 33}) {
+            int[] values = new Random(chunkInts).ints(10_000).toArray();
+            Path input = writeInts(dir, values);
+            Path output = dir.resolve("sorted.bin");
+
+            ExternalMergeSort sorter = new ExternalMergeSort(ExternalMergeSort.ElementType.INT, chunkInts * 4L, 1 << 16);
+            int runs = sorter.sort(input, output);
+
+            Arrays.sort(values);
+            assertEquals((10_000 + chunkInts - 1) / chunkInts, runs);
+            assertArrayEquals(values, readInts(output));
+        }
+        try (var files = Files.list(dir)) {
+            assertEquals(2, files.count(), "Temp run files should be deleted");
+        }
+    }
+
+    @Test
+    void testLongsAndProgress() throws IOException {
+        Path dir = Files.createTempDirectory("extsort");
+        long[] values = new Random(16).longs(20_000).toArray();
+        Path input = writeLongs(dir, values);
+        Path output = dir.resolve("sorted.bin");
+
+        List<ExternalMergeSort.Progress> progress = new ArrayList<>();
+        ExternalMergeSort sorter = new ExternalMergeSort(ExternalMergeSort.ElementType.LONG, 8 * 3000, 1 << 16);
+        sorter.setTempDirectory(dir);
+        sorter.setProgressListener(progress::add);
+        sorter.sort(input, output);
+
+        Arrays.sort(values);
+        assertArrayEquals(values, readLongs(output));
+
+        assertEquals(ExternalMergeSort.Phase.SORT_RUNS, progress.get(0).getPhase());
+        assertTrue(progress.stream().anyMatch(p -> p.getPhase() == ExternalMergeSort.Phase.MERGE));
+        ExternalMergeSort.Progress last = progress.get(progress.size() - 1);
+        assertEquals(ExternalMergeSort.Phase.DONE, last.getPhase());
+        assertEquals(1.0, last.getFraction(), 1e-9);
+        assertEquals(7, last.getRunCount());
+    }
+
+    @Test
+    void testSingleChunkAndEmptyInput() throws IOException {
+        Path dir = Files.createTempDirectory("extsort");
+        Path output = dir.resolve("sorted.bin");
+        ExternalMergeSort sorter = new ExternalMergeSort(ExternalMergeSort.ElementType.INT);
+
+        assertEquals(1, sorter.sort(writeInts(dir, new int[]{3, -1, 2}), output));
+        assertArrayEquals(new int[]{-1, 2, 3}, readInts(output));
+
+        assertEquals(0, sorter.sort(writeInts(dir, new int[]{}), output));
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void testRejectsTruncatedFile() throws IOException {
+        Path dir = Files.createTempDirectory("extsort");
+        Path input = Files.write(dir.resolve("input.bin"), new byte[]{1, 2, 3});
+        ExternalMergeSort sorter = new ExternalMergeSort(ExternalMergeSort.ElementType.INT);
+
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(input, dir.resolve("out.bin")));
+    }
+
+    @Test
+    void testRunsSortedAcrossSeveralWorkers() throws IOException {
+        Path dir = Files.createTempDirectory("extsort");
+        int[] ints = new Random(41).ints(200_000, 0, 50_000).toArray();
+        long[] longs = new Random(42).longs(100_000).toArray();
+        AtomicInteger workers = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4, p -> {
+            workers.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        }, null, false);
+        try {
+            ExternalMergeSort intSorter = new ExternalMergeSort(ExternalMergeSort.ElementType.INT, 4 * 60_000, 1 << 16);
+            intSorter.setParallelism(pool, 256);
+            Path output = dir.resolve("sorted.bin");
+            assertEquals(4, intSorter.sort(writeInts(dir, ints), output));
+            Arrays.sort(ints);
+            assertArrayEquals(ints, readInts(output));
+
+            ExternalMergeSort longSorter = new ExternalMergeSort(ExternalMergeSort.ElementType.LONG, 8 * 40_000, 1 << 16);
+            longSorter.setParallelism(pool, 256);
+            assertEquals(3, longSorter.sort(writeLongs(dir, longs), output));
+            Arrays.sort(longs);
+            assertArrayEquals(longs, readLongs(output));
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(workers.get() > 1, "runs should be split across workers, got " + workers.get());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalMergeSort(ExternalMergeSort.ElementType.INT).setParallelism(null, 256));
+    }
+}
@@ -0,0 +1,61 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Random;
+
+public class LSDRadixSortTest {
+
+    private final Sortable algo = new LSDRadixSort();
+
+    @Test
+    void testNormalSort() {
+        int[] arr = {170, 45, 75, 90, 802, 24, 2, 66};
+        int[] expected = {2, 24, 45, 66, 75, 90, 170, 802};
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testNegativeAndExtremeValues() {
+        int[] arr = {0, -5, Integer.MAX_VALUE, 2, Integer.MIN_VALUE, -3, 1};
+        int[] expected = {Integer.MIN_VALUE, -5, -3, 0, 1, 2, Integer.MAX_VALUE};
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testElevenBitDigitsWithParallelHistogram() {
+        int[] arr = new Random(6).ints(200_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        new LSDRadixSort(11, true).sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortWithSteps() {
+        int[] arr = {300, -1, 5, 42};
+        List<int[]> steps = algo.sortWithSteps(Arrays.copyOf(arr, arr.length));
+
+        assertArrayEquals(arr, steps.get(0));
+        assertArrayEquals(new int[]{-1, 5, 42, 300}, steps.get(steps.size() - 1));
+    }
+
+    @Test
+    void testEmptyArray() {
+        int[] arr = {};
+        algo.sort(arr);
+        assertArrayEquals(new int[]{}, arr);
+    }
+
+    @Test
+    void testInvalidDigitBits() {
+        assertThrows(IllegalArgumentException.class, () -> new LSDRadixSort(0));
+    }
+}
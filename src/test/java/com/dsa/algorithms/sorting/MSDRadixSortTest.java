@@ -0,0 +1,59 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Random;
+
+public class MSDRadixSortTest {
+
+    private final Sortable algo = new MSDRadixSort();
+
+    @Test
+    void testNormalSort() {
+        int[] arr = {170, 45, 75, 90, 802, 24, 2, 66};
+        int[] expected = {2, 24, 45, 66, 75, 90, 170, 802};
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testLargeRandomWithNegatives() {
+        int[] arr = new Random(7).ints(100_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testManyDuplicatesAboveCutoff() {
+        int[] arr = new Random(8).ints(5_000, -3, 3).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        new MSDRadixSort(4, false).sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortWithSteps() {
+        int[] arr = new Random(9).ints(100, -1000, 1000).toArray();
+        List<int[]> steps = new MSDRadixSort(8, false).sortWithSteps(arr.clone());
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(arr, steps.get(0));
+        assertArrayEquals(expected, steps.get(steps.size() - 1));
+    }
+
+    @Test
+    void testSingleElement() {
+        int[] arr = {42};
+        algo.sort(arr);
+        assertArrayEquals(new int[]{42}, arr);
+    }
+}
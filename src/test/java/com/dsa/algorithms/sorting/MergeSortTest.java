@@ -1,8 +1,11 @@
 package com.dsa.algorithms.sorting;
 
 import org.junit.jupiter.api.Test;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MergeSortTest {
@@ -47,4 +50,139 @@ public class MergeSortTest {
         algo.sort(arr);
         assertArrayEquals(new int[]{1, 2, 3, 4, 5}, arr);
     }
+
+    @Test
+    void testSortLargerThanInsertionCutoff() {
+        int[] arr = new Random(1).ints(1000, -500, 500).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        algo.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testParallelSort() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MergeSort parallel = new MergeSort(pool, 64);
+            assertTrue(parallel.isParallel());
+
+            int[] arr = new Random(2).ints(100_000, 0, 1000).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            parallel.sort(arr);
+            assertArrayEquals(expected, arr, "Parallel merge sort should match Arrays.sort");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelSortSortedAndReversed() {
+        MergeSort parallel = new MergeSort(MergeSort.DEFAULT_PARALLEL_THRESHOLD);
+        int n = 50_000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+        }
+        int[] expected = reversed.clone();
+        Arrays.sort(expected);
+
+        parallel.sort(reversed);
+        assertArrayEquals(expected, reversed);
+        parallel.sort(sorted);
+        for (int i = 0; i < n; i++) assertEquals(i, sorted[i]);
+    }
+
+    @Test
+    void testInvalidParallelThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new MergeSort(1));
+    }
+
+    @Test
+    void testAdaptiveSortPatterns() {
+        Sortable adaptive = new MergeSort(MergeSort.Mode.ADAPTIVE);
+        Random rand = new Random(8);
+        for (int n : new int[]{2, 31, 32, 33, 100, 1000, 20_000}) {
+            int[][] inputs = {
+                rand.ints(n).toArray(),
+                rand.ints(n, 0, 4).toArray(),
+                new int[n], new int[n], new int[n], new int[n]
+            };
+            for (int i = 0; i < n; i++) {
+                inputs[2][i] = i;                        // sorted
+                inputs[3][i] = n - i;                    // strictly descending
+                inputs[4][i] = i % 50;                   // sawtooth of short runs
+                inputs[5][i] = i < n / 2 ? i : n - i;    // organ pipe
+            }
+            for (int[] input : inputs) {
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+                assertArrayEquals(expected, adaptive.sort(input), "n = " + n);
+            }
+        }
+    }
+
+    @Test
+    void testAdaptiveSortNearlySorted() {
+        int n = 100_000;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) arr[i] = i;
+        Random rand = new Random(9);
+        for (int k = 0; k < 50; k++) {
+            int i = rand.nextInt(n), j = rand.nextInt(n);
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        new MergeSort(MergeSort.Mode.ADAPTIVE).sort(arr);
+        for (int i = 0; i < n; i++) assertEquals(i, arr[i]);
+    }
+
+    @Test
+    void testAdaptiveStepsRecordRunsAndMerges() {
+        MergeSort adaptive = new MergeSort(MergeSort.Mode.ADAPTIVE);
+        int[] input = new int[100];
+        for (int i = 0; i < 100; i++) input[i] = i < 60 ? i + 100 : 159 - i;   // ascending run then descending run
+
+        SortTrace trace = adaptive.sortWithTrace(input.clone());
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        assertEquals("Start", trace.getLabel(0));
+        assertEquals("Run [0, 60) detected", trace.getLabel(1));
+        assertEquals("Run [60, 100) detected", trace.getLabel(2));
+        assertEquals("Merge [0, 60) + [60, 100)", trace.getLabel(3));
+        assertEquals(4, trace.size());
+        assertArrayEquals(expected, trace.getStep(3));
+
+        // Already sorted input is a single run and needs no merge
+        SortTrace sorted = adaptive.sortWithTrace(expected.clone());
+        assertEquals(2, sorted.size());
+    }
+
+    @Test
+    void testAdaptiveStepIterator() {
+        int[] input = new Random(10).ints(300, 0, 1000).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        int[] original = input.clone();
+        Iterator<int[]> it = new MergeSort(MergeSort.Mode.ADAPTIVE).stepIterator(input);
+
+        // The first step is the input itself, the second only sorts the first run
+        assertArrayEquals(original, it.next());
+        it.next();
+        int minRun = AdaptiveMergeSort.minRunLength(input.length);
+        assertArrayEquals(Arrays.copyOfRange(original, minRun, input.length),
+                Arrays.copyOfRange(input, minRun, input.length));
+
+        int[] last = null;
+        while (it.hasNext()) last = it.next();
+        assertArrayEquals(expected, last);
+    }
 }
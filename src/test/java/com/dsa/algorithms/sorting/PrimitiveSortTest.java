@@ -0,0 +1,101 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class PrimitiveSortTest {
+
+    private final QuickSort quick = new QuickSort();
+    private final MergeSort merge = new MergeSort();
+
+    private double[] specialDoubles() {
+        return new double[]{3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -1.25,
+                Double.POSITIVE_INFINITY, 0.0, -0.0, Double.MIN_VALUE, -Double.MAX_VALUE, Double.NaN};
+    }
+
+    @Test
+    void testLongArrays() {
+        long[] arr = new Random(12).longs(50_000).toArray();
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, quick.sort(arr.clone()));
+        assertArrayEquals(expected, merge.sort(arr.clone()));
+    }
+
+    @Test
+    void testParallelLongMergeSort() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long[] arr = new Random(13).longs(100_000, -1000, 1000).toArray();
+            long[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            assertArrayEquals(expected, new MergeSort(pool, 1024).sort(arr));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDoubleOrderingMatchesArraysSort() {
+        double[] expected = specialDoubles();
+        Arrays.sort(expected);
+
+        double[] byQuick = quick.sort(specialDoubles());
+        double[] byMerge = merge.sort(specialDoubles());
+        // assertArrayEquals on double[] compares bit patterns, so -0.0 vs 0.0 must match exactly
+        assertArrayEquals(expected, byQuick);
+        assertArrayEquals(expected, byMerge);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(byQuick[3]));
+    }
+
+    @Test
+    void testLargeRandomDoubles() {
+        double[] arr = new Random(14).doubles(20_000, -1e9, 1e9).toArray();
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, quick.sort(arr));
+    }
+
+    @Test
+    void testSortableLongRoundTrip() {
+        for (double d : specialDoubles()) {
+            assertEquals(Double.valueOf(d), Double.valueOf(QuickSort.fromSortableLong(QuickSort.toSortableLong(d))));
+        }
+        assertTrue(QuickSort.toSortableLong(-0.0) < QuickSort.toSortableLong(0.0));
+        assertTrue(QuickSort.toSortableLong(Double.POSITIVE_INFINITY) < QuickSort.toSortableLong(Double.NaN));
+    }
+
+    @Test
+    void testOffHeapLongBuffer() {
+        int n = 30_000;
+        LongBuffer buffer = ByteBuffer.allocateDirect(n * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        long[] expected = new Random(15).longs(n).toArray();
+        buffer.put(expected).flip();
+        Arrays.sort(expected);
+
+        quick.sort(buffer);
+
+        assertEquals(0, buffer.position(), "Position should be left untouched");
+        long[] actual = new long[n];
+        buffer.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testBufferWindowOnly() {
+        LongBuffer buffer = LongBuffer.wrap(new long[]{9, 5, 4, 3, 1});
+        buffer.position(1).limit(4);
+
+        quick.sort(buffer);
+        assertArrayEquals(new long[]{9, 3, 4, 5, 1}, buffer.array());
+    }
+}
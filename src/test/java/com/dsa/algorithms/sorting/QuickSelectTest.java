@@ -0,0 +1,143 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class QuickSelectTest {
+
+    private final QuickSelect selector = new QuickSelect();
+
+    @Test
+    void testSelectEveryRank() {
+        int[] input = new Random(13).ints(200, 0, 50).toArray();
+        int[] sorted = input.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < input.length; k++) {
+            int[] arr = input.clone();
+            assertEquals(sorted[k], selector.select(arr, k));
+            for (int i = 0; i < k; i++) assertTrue(arr[i] <= arr[k]);
+            for (int i = k + 1; i < arr.length; i++) assertTrue(arr[i] >= arr[k]);
+        }
+    }
+
+    @Test
+    void testSelectAdversarialInputs() {
+        int n = 100_000;
+        int[] sorted = new int[n];
+        int[] organPipe = new int[n];
+        int[] equal = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            organPipe[i] = i < n / 2 ? i : n - i;
+            equal[i] = 7;
+        }
+        assertEquals(n / 2, selector.select(sorted.clone(), n / 2));
+        int[] expected = organPipe.clone();
+        Arrays.sort(expected);
+        assertEquals(expected[n / 3], selector.select(organPipe, n / 3));
+        assertEquals(7, selector.select(equal, 123));
+    }
+
+    @Test
+    void testMedianOfMediansGuard() {
+        // guaranteed = true uses median-of-medians pivots from the first partition
+        for (int k : new int[]{0, 1234, 2500, 4999}) {
+            int[] arr = new Random(14).ints(5000, 0, 1000).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            QuickSelect.selectRange(arr, 0, arr.length - 1, k, true, null);
+            assertEquals(expected[k], arr[k]);
+        }
+    }
+
+    @Test
+    void testPoorPartitionSwitchesToMedianOfMedians() {
+        // The nine smallest values sit where the ninther samples, so the first pivot is 4 and
+        // the partition keeps [5, 1999]: more than 3/4 of the range. The next partition must
+        // then be median-of-medians selecting among the 399 group medians gathered at [5, 403].
+        int n = 2000;
+        List<Integer> rest = new ArrayList<>();
+        for (int v = 9; v < n; v++) rest.add(v);
+        Collections.shuffle(rest, new Random(17));
+        int[] arr = new int[n];
+        int[] samples = {0, 250, 500, 749, 999, 1249, 1499, 1749, 1999};
+        for (int s = 0; s < samples.length; s++) arr[samples[s]] = s;
+        Iterator<Integer> next = rest.iterator();
+        for (int i = 0; i < n; i++) if (Arrays.binarySearch(samples, i) < 0) arr[i] = next.next();
+
+        SortTrace trace = selector.selectWithTrace(arr, n - 1);
+        List<String> partitions = new ArrayList<>();
+        for (int s = 0; s < trace.size(); s++) {
+            String label = trace.getLabel(s);
+            if (label != null && label.startsWith("Partition [")) partitions.add(label);
+        }
+        assertEquals("Partition [0, 1999] around 4", partitions.get(0));
+        assertTrue(partitions.get(1).startsWith("Partition [5, 403] around "), partitions.get(1));
+        assertEquals(n - 1, arr[n - 1]);
+    }
+
+    @Test
+    void testMedian() {
+        assertEquals(3, selector.median(new int[]{5, 1, 3, 4, 2}));
+        assertEquals(2, selector.median(new int[]{4, 1, 3, 2}));
+        assertThrows(IllegalArgumentException.class, () -> selector.median(new int[]{}));
+    }
+
+    @Test
+    void testPartialSort() {
+        int[] input = new Random(15).ints(1000, 0, 300).toArray();
+        int[] sorted = input.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 10, 999, 1000}) {
+            int[] arr = selector.partialSort(input.clone(), k);
+            assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(arr, k), "k = " + k);
+            int[] all = arr.clone();
+            Arrays.sort(all);
+            assertArrayEquals(sorted, all, "partialSort must keep a permutation");
+        }
+    }
+
+    @Test
+    void testTopK() {
+        int[] input = new Random(16).ints(10_000).toArray();
+        int[] sorted = input.clone();
+        Arrays.sort(sorted);
+
+        assertArrayEquals(Arrays.copyOf(sorted, 25), QuickSelect.topK(IntStream.of(input), 25));
+        assertArrayEquals(new int[]{1, 2, 3}, QuickSelect.topK(IntStream.of(3, 1, 2), 10));
+        assertArrayEquals(new int[]{}, QuickSelect.topK(IntStream.of(3, 1, 2), 0));
+    }
+
+    @Test
+    void testTraces() {
+        int[] input = {9, 4, 7, 1, 8, 2, 6, 3, 5, 0, 12, 11, 10, 15, 14, 13, 16, 19, 18, 17};
+
+        SortTrace select = selector.selectWithTrace(input.clone(), 10);
+        assertEquals("Start", select.getLabel(0));
+        assertArrayEquals(input, select.getStep(0));
+        assertEquals(10, select.getStep(select.size() - 1)[10]);
+
+        SortTrace partial = selector.partialSortWithTrace(input.clone(), 5);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4},
+                Arrays.copyOf(partial.getStep(partial.size() - 1), 5));
+
+        SortTrace top = QuickSelect.topKWithTrace(IntStream.of(input).iterator(), 3);
+        assertArrayEquals(new int[]{0, 1, 2}, top.getStep(top.size() - 1));
+    }
+
+    @Test
+    void testInvalidK() {
+        assertThrows(IllegalArgumentException.class, () -> selector.select(new int[]{1, 2}, 2));
+        assertThrows(IllegalArgumentException.class, () -> selector.partialSort(new int[]{1, 2}, 3));
+        assertThrows(IllegalArgumentException.class, () -> QuickSelect.topK(IntStream.of(1), -1));
+    }
+}
@@ -1,9 +1,11 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Iterator;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
 import java.util.Arrays;
+import java.util.Random;
 
 public class QuickSortTest {
 
@@ -58,4 +60,109 @@ public class QuickSortTest {
         int[] expected = {2, 3, 6};
         assertArrayEquals(expected, steps.get(steps.size() - 1));
     }
+
+    private final Sortable intro = new QuickSort(QuickSort.Mode.INTROSORT);
+
+    private void assertIntrosortMatches(int[] arr) {
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        intro.sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testIntrosortRandomWithDuplicates() {
+        assertIntrosortMatches(new Random(3).ints(10_000, -50, 50).toArray());
+        assertIntrosortMatches(new int[]{4, 2, 2, 8, 3, 3, 1});
+    }
+
+    @Test
+    void testIntrosortAdversarialInputs() {
+        int n = 300_000;
+        int[] sorted = new int[n];
+        int[] allEqual = new int[n];
+        int[] organPipe = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            allEqual[i] = 7;
+            organPipe[i] = i < n / 2 ? i : n - i;
+        }
+        // These go quadratic (and overflow the stack) with the classic last-element pivot
+        assertIntrosortMatches(sorted);
+        assertIntrosortMatches(allEqual);
+        assertIntrosortMatches(organPipe);
+    }
+
+    @Test
+    void testHeapSortFallback() {
+        int[] arr = new Random(4).ints(500, 0, 100).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 10, 400);
+
+        QuickSort.heapSort(arr, 10, 399, null);
+        assertArrayEquals(expected, arr);
+        assertEquals(2 * 9, QuickSort.depthLimit(1000));
+    }
+
+    @Test
+    void testIntrosortStepsAreSwaps() {
+        int[] arr = new Random(5).ints(200, 0, 30).toArray();
+        List<int[]> steps = intro.sortWithSteps(arr.clone());
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, steps.get(steps.size() - 1));
+
+        // Like the classic partition, each step changes at most two positions
+        for (int s = 1; s < steps.size(); s++) {
+            int changed = 0;
+            for (int i = 0; i < arr.length; i++) {
+                if (steps.get(s - 1)[i] != steps.get(s)[i]) changed++;
+            }
+            assertTrue(changed <= 2, "Step " + s + " changed " + changed + " positions");
+        }
+    }
+
+    @Test
+    void testIntrosortStepIteratorIsIncremental() {
+        // Musser's median-of-three killer: partitions peel off two values each, so the
+        // depth limit runs out and the iterator has to step through the heapsort fallback too
+        int n = 90, k = n / 2;
+        int[] killer = new int[n];
+        for (int i = 1; i <= k; i++) {
+            if (i % 2 == 1) {
+                killer[i - 1] = i;
+                killer[i] = k + i;
+            }
+            killer[k + i - 1] = 2 * i;
+        }
+        Random rand = new Random(6);
+        for (int[] input : Arrays.asList(killer, rand.ints(300, 0, 40).toArray(), rand.ints(17, 0, 5).toArray())) {
+            SortTrace trace = intro.sortWithTrace(input.clone());
+            List<int[]> expected = trace.asList();
+            int[] live = input.clone();
+            Iterator<int[]> it = intro.stepIterator(live);
+
+            // Pulling the first step does only the first swap, not the whole sort
+            assertArrayEquals(expected.get(0), it.next());
+            int moved = 0;
+            for (int i = 0; i < live.length; i++) if (live[i] != input[i]) moved++;
+            assertTrue(moved <= 2);
+
+            int steps = 1;
+            while (it.hasNext()) {
+                assertArrayEquals(expected.get(steps), it.next(), "step " + steps);
+                steps++;
+            }
+            assertEquals(expected.size(), steps);
+        }
+
+        int partitions = 0;
+        SortTrace trace = intro.sortWithTrace(killer.clone());
+        for (int s = 0; s < trace.size(); s++) {
+            String label = trace.getLabel(s);
+            if (label != null && label.startsWith("Partition [")) partitions++;
+        }
+        assertTrue(partitions >= QuickSort.depthLimit(n), "Killer input exhausts the depth limit");
+    }
 }
@@ -0,0 +1,245 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class SortMetricsTest {
+
+    private int[] ascending(int n) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) arr[i] = i;
+        return arr;
+    }
+
+    private int[] descending(int n) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) arr[i] = n - i;
+        return arr;
+    }
+
+    @Test
+    void testCountedSortsStillSort() {
+        Sortable[] algos = {
+            new BubbleSort(), new InsertionSort(), new SelectionSort(),
+            new QuickSort(), new QuickSort(QuickSort.Mode.INTROSORT), new MergeSort()
+        };
+        int[] input = new Random(17).ints(3000, 0, 500).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        for (Sortable algo : algos) {
+            int[] arr = input.clone();
+            SortMetrics metrics = algo.sortWithMetrics(arr);
+            assertArrayEquals(expected, arr, metrics.getAlgorithm());
+            assertTrue(metrics.isCounted());
+            assertTrue(metrics.getComparisons() > 0);
+            assertTrue(metrics.getElapsedNanos() > 0);
+        }
+    }
+
+    @Test
+    void testBubbleSortBestAndWorstCase() {
+        int n = 100;
+        SortMetrics best = new BubbleSort().sortWithMetrics(ascending(n));
+        assertEquals(n - 1, best.getComparisons());
+        assertEquals(0, best.getSwaps());
+        assertEquals(0, best.getWrites());
+
+        SortMetrics worst = new BubbleSort().sortWithMetrics(descending(n));
+        assertEquals((long) n * (n - 1) / 2, worst.getComparisons());
+        assertEquals((long) n * (n - 1) / 2, worst.getSwaps());
+        assertEquals(2 * worst.getSwaps(), worst.getWrites());
+    }
+
+    @Test
+    void testSelectionAndInsertionSortCounts() {
+        int n = 100;
+        SortMetrics selection = new SelectionSort().sortWithMetrics(descending(n));
+        assertEquals((long) n * (n - 1) / 2, selection.getComparisons());
+        assertEquals(n - 1, selection.getSwaps());
+
+        SortMetrics insertion = new InsertionSort().sortWithMetrics(ascending(n));
+        assertEquals(n - 1, insertion.getComparisons());
+        assertEquals(n - 1, insertion.getWrites());
+        assertEquals(0, insertion.getAuxBytes());
+    }
+
+    @Test
+    void testNLogNSortsStayNearNLogN() {
+        int n = 1 << 16;
+        int[] input = new Random(18).ints(n).toArray();
+        double nLogN = n * 16.0;
+
+        SortMetrics merge = new MergeSort().sortWithMetrics(input.clone());
+        assertEquals((long) n * Integer.BYTES, merge.getAuxBytes());
+        assertTrue(merge.getComparisons() < 1.5 * nLogN, merge.toString());
+
+        SortMetrics intro = new QuickSort(QuickSort.Mode.INTROSORT).sortWithMetrics(input.clone());
+        assertEquals(0, intro.getAuxBytes());
+        assertTrue(intro.getComparisons() < 2.5 * nLogN, intro.toString());
+    }
+
+    @Test
+    void testUncountedAlgorithmsReportTimeOnly() {
+        // A Sortable without a counting version gets the interface default
+        Sortable plain = new Sortable() {
+            @Override
+            public int[] sort(int[] arr) {
+                Arrays.sort(arr);
+                return arr;
+            }
+
+            @Override
+            public SortTrace sortWithTrace(int[] arr) {
+                return new SortTrace(sort(arr));
+            }
+        };
+        int[] arr = {3, 1, 2};
+        SortMetrics metrics = plain.sortWithMetrics(arr);
+        assertArrayEquals(new int[]{1, 2, 3}, arr);
+        assertFalse(metrics.isCounted());
+        assertEquals(0, metrics.getComparisons());
+    }
+
+    @Test
+    void testEveryAlgorithmIsCounted() {
+        Sortable[] algos = {
+            new BubbleSort(), new InsertionSort(), new SelectionSort(), new QuickSort(),
+            new QuickSort(QuickSort.Mode.INTROSORT), new MergeSort(), new MergeSort(MergeSort.Mode.ADAPTIVE),
+            new MergeSort(64), new LSDRadixSort(), new MSDRadixSort(), new CountingSort(),
+            new CountingSort(100, true)
+        };
+        int[] input = new Random(19).ints(3000, -1000, 1000).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        for (Sortable algo : algos) {
+            int[] arr = input.clone();
+            SortMetrics metrics = algo.sortWithMetrics(arr);
+            assertArrayEquals(expected, arr, metrics.getAlgorithm());
+            assertTrue(metrics.isCounted(), metrics.getAlgorithm());
+            assertTrue(metrics.getReads() >= input.length, metrics.toString());
+            assertTrue(metrics.getWrites() > 0, metrics.toString());
+        }
+    }
+
+    @Test
+    void testDistributionSortCounts() {
+        int n = 100;
+        // Keys 1..n differ only in the low byte: one histogram scan, one scatter pass (three
+        // skipped after reading src[0]) and a copy back from the buffer
+        SortMetrics lsd = new LSDRadixSort(8, false).sortWithMetrics(descending(n));
+        assertEquals(0, lsd.getComparisons());
+        assertEquals(3L * n + 4, lsd.getReads());
+        assertEquals(2L * n, lsd.getWrites());
+        assertEquals((4 * 256 + 256 + n) * Integer.BYTES, lsd.getAuxBytes());
+
+        // Three levels share their only bucket; the last distributes through aux and back
+        SortMetrics msd = new MSDRadixSort(32, false).sortWithMetrics(descending(n));
+        assertEquals(0, msd.getComparisons());
+        assertEquals(6L * n + 4, msd.getReads());
+        assertEquals(2L * n, msd.getWrites());
+        assertEquals((n + 4 * (256 + 257) + 257) * Integer.BYTES, msd.getAuxBytes());
+
+        // Min and max scans, a histogram of the n values and n writes back
+        SortMetrics counting = new CountingSort(1 << 20, false).sortWithMetrics(descending(n));
+        assertEquals(2L * n, counting.getComparisons());
+        assertEquals(3L * n + 2, counting.getReads());
+        assertEquals(n, counting.getWrites());
+        assertEquals(n * Integer.BYTES, counting.getAuxBytes());
+
+        // Range above maxRange: the same scans, then the LSD counts
+        SortMetrics fallback = new CountingSort(10, false).sortWithMetrics(descending(n));
+        assertEquals(2L * n, fallback.getComparisons());
+        assertEquals(2L * (n + 1) + lsd.getReads(), fallback.getReads());
+        assertEquals(lsd.getWrites(), fallback.getWrites());
+        assertEquals(lsd.getAuxBytes(), fallback.getAuxBytes());
+    }
+
+    @Test
+    void testParallelHistogramCountsEveryChunk() {
+        int[] input = new Random(20).ints(200_000).toArray();
+        SortMetrics sequential = new LSDRadixSort(8, false).sortWithMetrics(input.clone());
+        SortMetrics parallel = new LSDRadixSort(8, true).sortWithMetrics(input.clone());
+
+        // Same element accesses; 200,000 keys split into four chunks of 50,000, each with its
+        // own four 256-bucket histograms
+        assertEquals(sequential.getReads(), parallel.getReads());
+        assertEquals(sequential.getWrites(), parallel.getWrites());
+        assertEquals(3 * 4 * 256 * Integer.BYTES, parallel.getAuxBytes() - sequential.getAuxBytes());
+    }
+
+    @Test
+    void testAdaptiveMergeSortCounts() {
+        int n = 100;
+        MergeSort adaptive = new MergeSort(MergeSort.Mode.ADAPTIVE);
+
+        // One ascending run: n - 1 comparisons to find it, nothing moved
+        SortMetrics sorted = adaptive.sortWithMetrics(ascending(n));
+        assertEquals(n - 1, sorted.getComparisons());
+        assertEquals(2L * (n - 1), sorted.getReads());
+        assertEquals(0, sorted.getWrites());
+        assertEquals((n / 2 + 1) * Integer.BYTES, sorted.getAuxBytes());
+
+        // One strictly descending run, reversed with n / 2 swaps
+        SortMetrics reversed = adaptive.sortWithMetrics(descending(n));
+        assertEquals(n - 1, reversed.getComparisons());
+        assertEquals(n / 2, reversed.getSwaps());
+        assertEquals(n, reversed.getWrites());
+
+        // Two runs of 2n (found with 4n - 1 comparisons) whose merge gallops through bulk
+        // copies: a few dozen comparisons to write 3n values, plus n staged in the buffer
+        int[] twoRuns = new int[4 * n];
+        for (int i = 0; i < 2 * n; i++) {
+            twoRuns[i] = i < n ? i : 2 * n + i;
+            twoRuns[2 * n + i] = n + i;
+        }
+        int[] copy = twoRuns.clone();
+        SortMetrics galloped = adaptive.sortWithMetrics(twoRuns);
+        Arrays.sort(copy);
+        assertArrayEquals(copy, twoRuns);
+        assertTrue(galloped.getComparisons() - (4 * n - 1) < 64, galloped.toString());
+        assertEquals(4L * n, galloped.getWrites());
+    }
+
+    @Test
+    void testParallelMergeSortCountsAddUpAtTheJoins() {
+        int[] input = new Random(21).ints(1 << 15).toArray();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SortMetrics sequential = new MergeSort().sortWithMetrics(input.clone());
+            SortMetrics first = new MergeSort(pool, 256).sortWithMetrics(input.clone());
+            SortMetrics second = new MergeSort(pool, 256).sortWithMetrics(input.clone());
+
+            // The same split at every level, so every element is written as often as sequentially;
+            // the parallel merges add the reads and comparisons of their split searches
+            assertEquals(sequential.getWrites(), first.getWrites());
+            assertEquals(sequential.getAuxBytes(), first.getAuxBytes());
+            assertTrue(first.getReads() > sequential.getReads());
+            // Task counters are summed at the joins, never shared, so runs agree exactly
+            assertEquals(first.getComparisons(), second.getComparisons());
+            assertEquals(first.getReads(), second.getReads());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+
+    @Test
+    void testNullInputIsEmptyRun() {
+        Sortable[] algos = {
+            new BubbleSort(), new InsertionSort(), new SelectionSort(), new QuickSort(),
+            new QuickSort(QuickSort.Mode.INTROSORT), new MergeSort(), new MergeSort(MergeSort.Mode.ADAPTIVE),
+            new LSDRadixSort()
+        };
+        for (Sortable algo : algos) {
+            SortMetrics metrics = algo.sortWithMetrics(null);
+            assertEquals(0, metrics.getSize(), metrics.getAlgorithm());
+            assertEquals(0, metrics.getComparisons(), metrics.getAlgorithm());
+            assertEquals(0, metrics.getReads(), metrics.getAlgorithm());
+        }
+    }
+}
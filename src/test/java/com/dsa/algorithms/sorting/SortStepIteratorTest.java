@@ -0,0 +1,78 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class SortStepIteratorTest {
+
+    private final Sortable[] algos = {
+        new BubbleSort(), new InsertionSort(), new SelectionSort(), new QuickSort(), new MergeSort(),
+        new QuickSort(QuickSort.Mode.INTROSORT), new MergeSort(MergeSort.Mode.ADAPTIVE)
+    };
+
+    private List<int[]> drain(Iterator<int[]> it) {
+        List<int[]> steps = new ArrayList<>();
+        while (it.hasNext()) steps.add(it.next());
+        return steps;
+    }
+
+    private void assertSameSteps(Sortable algo, int[] input) {
+        List<int[]> expected = algo.sortWithSteps(input.clone());
+        List<int[]> actual = drain(algo.stepIterator(input.clone()));
+
+        String name = algo.getClass().getSimpleName() + " on " + Arrays.toString(input);
+        assertEquals(expected.size(), actual.size(), name);
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), name + " step " + i);
+        }
+    }
+
+    @Test
+    void testIteratorMatchesSortWithSteps() {
+        Random rand = new Random(42);
+        for (Sortable algo : algos) {
+            assertSameSteps(algo, new int[]{5, 1, 4, 2, 8});
+            assertSameSteps(algo, new int[]{1, 2, 3, 4, 5});
+            assertSameSteps(algo, new int[]{5, 4, 3, 2, 1});
+            assertSameSteps(algo, new int[]{2, 2, 2, 2});
+            assertSameSteps(algo, new int[]{7});
+            assertSameSteps(algo, new int[]{});
+
+            int[] random = new int[40];
+            for (int i = 0; i < random.length; i++) random[i] = rand.nextInt(20);
+            assertSameSteps(algo, random);
+        }
+    }
+
+    @Test
+    void testSortsInPlaceIncrementally() {
+        int[] arr = {3, 2, 1};
+        Iterator<int[]> it = new BubbleSort().stepIterator(arr);
+
+        assertArrayEquals(new int[]{3, 2, 1}, it.next());
+        assertArrayEquals(new int[]{2, 3, 1}, it.next());
+        // The live array only advances as far as the consumer has pulled
+        assertArrayEquals(new int[]{2, 3, 1}, arr);
+
+        while (it.hasNext()) it.next();
+        assertArrayEquals(new int[]{1, 2, 3}, arr);
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void testStepIndexAndLiveView() {
+        int[] arr = {4, 3};
+        SortStepIterator it = (SortStepIterator) new QuickSort().stepIterator(arr);
+
+        assertEquals(-1, it.getStepIndex());
+        it.next();
+        assertEquals(0, it.getStepIndex());
+        assertSame(arr, it.current());
+    }
+}
@@ -0,0 +1,95 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class SortTraceTest {
+
+    private final Sortable[] algos = {
+        new BubbleSort(), new InsertionSort(), new SelectionSort(), new QuickSort(), new MergeSort()
+    };
+
+    private int[] randomArray(int n, long seed) {
+        Random rand = new Random(seed);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) arr[i] = rand.nextInt(100);
+        return arr;
+    }
+
+    @Test
+    void testRecordsEventsAndRebuildsSteps() {
+        int[] arr = {3, 1, 2};
+        SortTrace trace = new SortTrace(arr);
+        trace.snapshot();
+        trace.swap(0, 1);
+        trace.snapshot();
+        trace.set(2, 9);
+        trace.snapshot();
+
+        assertEquals(3, trace.size());
+        assertEquals(3, trace.getEventCount());
+        assertArrayEquals(new int[]{3, 1, 2}, trace.getStep(0));
+        assertArrayEquals(new int[]{1, 3, 2}, trace.getStep(1));
+        assertArrayEquals(new int[]{1, 3, 9}, trace.getStep(2));
+
+        assertEquals(2, trace.getFirstEvent(2));
+        assertEquals(3, trace.getLastEvent(2));
+        assertEquals(2, trace.getEventIndex(2));
+        assertEquals(2, trace.getOldValue(2));
+        assertEquals(9, trace.getNewValue(2));
+    }
+
+    @Test
+    void testRandomAccessMatchesSequentialReplay() {
+        for (Sortable algo : algos) {
+            int[] input = randomArray(60, 7);
+            SortTrace trace = algo.sortWithTrace(input.clone());
+
+            int[] replay = input.clone();
+            for (int step = 0; step < trace.size(); step++) {
+                for (int e = trace.getFirstEvent(step); e < trace.getLastEvent(step); e++) {
+                    assertEquals(replay[trace.getEventIndex(e)], trace.getOldValue(e));
+                    replay[trace.getEventIndex(e)] = trace.getNewValue(e);
+                }
+                assertArrayEquals(replay, trace.getStep(step), algo.getClass().getSimpleName() + " step " + step);
+            }
+
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, trace.getStep(trace.size() - 1));
+        }
+    }
+
+    @Test
+    void testKeyframesBoundedByEvents() {
+        int[] input = randomArray(200, 11);
+        SortTrace trace = new BubbleSort().sortWithTrace(input);
+
+        assertTrue(trace.getKeyframeCount() > 1, "Long traces should take keyframes");
+        assertTrue(trace.getKeyframeCount() <= trace.getEventCount() / input.length + 1,
+                "Keyframes should not outnumber events / n");
+    }
+
+    @Test
+    void testListViewIsLazyAdapter() {
+        int[] input = {5, 1, 4};
+        SortTrace trace = new BubbleSort().sortWithTrace(input.clone());
+        List<int[]> steps = trace.asList();
+
+        assertEquals(trace.size(), steps.size());
+        assertArrayEquals(new int[]{1, 5, 4}, steps.get(1));
+        // Each get returns an independent copy
+        steps.get(1)[0] = 99;
+        assertArrayEquals(new int[]{1, 5, 4}, steps.get(1));
+    }
+
+    @Test
+    void testEmptyTrace() {
+        SortTrace trace = new MergeSort().sortWithTrace(new int[]{});
+        assertEquals(0, trace.size());
+        assertTrue(trace.asList().isEmpty());
+    }
+}